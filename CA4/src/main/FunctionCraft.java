@@ -1,8 +1,16 @@
 package main;
 
+import main.ast.nodes.Node;
 import main.ast.nodes.Program;
 import main.compileError.CompileError;
+import main.metrics.CompilerMetrics;
+import main.symbolTable.SymbolTable;
 import main.visitor.codeGenerator.CodeGenerator;
+import main.visitor.codeGenerator.GeneratedClassLoader;
+import main.visitor.codeGenerator.JasminAssembler;
+import main.visitor.optimizer.ConstantFolder;
+import main.visitor.optimizer.DeadCodeEliminator;
+import main.visitor.optimizer.PurityAnalyzer;
 import main.visitor.type.TypeChecker;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
@@ -13,18 +21,61 @@ import parsers.FunctionCraftParser;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.io.*;
 
 public class FunctionCraft {
+    private static final String OUTPUT_PATH = "./codeGenOutput/";
+    // The runtime classes generated code links against (List, Fptr, ...) are compiled
+    // from utilities/codeGenerationUtilityClasses into this jar ahead of time.
+    public static final String RUNTIME_VERSION = "1.0";
+    public static final String RUNTIME_JAR = "utilities/jarFiles/functioncraft-runtime-" + RUNTIME_VERSION + ".jar";
+
+    // usage: FunctionCraft [--metrics REPORT.json] [--memoize] [--in-memory] INPUT_FILE
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
+        String inputPath = null;
+        String metricsPath = null;
+        boolean memoize = false;
+        boolean inMemory = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--metrics"))
+                metricsPath = args[++i];
+            else if (args[i].equals("--memoize"))
+                memoize = true;
+            else if (args[i].equals("--in-memory"))
+                inMemory = true;
+            else
+                inputPath = args[i];
+        }
+        CompilerMetrics metrics = new CompilerMetrics(metricsPath != null);
+        // Compiled programs cannot run without the runtime, so a missing jar is reported
+        // before any compiling is done.
+        locateRuntimeJar();
+
+        metrics.startPhase("parse");
+        long nodesBefore = Node.getCreatedNodes();
+        CharStream reader = CharStreams.fromFileName(inputPath);
         FunctionCraftLexer flLexer = new FunctionCraftLexer(reader);
         CommonTokenStream tokens = new CommonTokenStream(flLexer);
         FunctionCraftParser flParser = new FunctionCraftParser(tokens);
         Program program = flParser.program().flProgram;
+        metrics.endPhase();
+        metrics.count("tokens", tokens.size());
+        metrics.count("astNodes", Node.getCreatedNodes() - nodesBefore);
+
+        metrics.startPhase("typecheck");
+        long lookupsBefore = SymbolTable.getLookups();
         TypeChecker typeChecker = new TypeChecker();
         typeChecker.visit(program);
+        metrics.endPhase();
         typeChecker.typeErrors.sort(Comparator.comparingInt(CompileError::getLine));
         //FileWriter fileWriter = new FileWriter("./samples/typeCheckErrors.txt");
         //PrintWriter printWriter = new PrintWriter(fileWriter);
@@ -33,19 +84,66 @@ public class FunctionCraft {
             System.out.println(compileError.getErrorMessage());
         }
         //fileWriter.close();
+        metrics.count("typeErrors", typeChecker.typeErrors.size());
+
+        metrics.startPhase("optimize");
+        new ConstantFolder().fold(program);
+        Set<String> reachable = new DeadCodeEliminator().eliminate(program);
+        metrics.endPhase();
+
+        metrics.startPhase("codegen");
         CodeGenerator codeGenerator = new CodeGenerator(typeChecker);
+        codeGenerator.setReachable(reachable);
+        if (memoize)
+            codeGenerator.setMemoizable(new PurityAnalyzer().findPure(program));
         codeGenerator.visit(program);
+        String listing = codeGenerator.getMainListing();
+        metrics.endPhase();
+        metrics.count("symbolTableLookups", SymbolTable.getLookups() - lookupsBefore);
+        metrics.count("emittedInstructions", CodeGenerator.countInstructions(listing));
+
+        metrics.startPhase("assemble");
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        classes.put("Main", JasminAssembler.assemble(listing, "Main.j"));
+        metrics.endPhase();
+        metrics.count("mainClassBytes", classes.get("Main").length);
 
-        runJasminCode();
+        if (!inMemory) {
+            metrics.startPhase("write");
+            writeClassFiles(classes);
+            metrics.endPhase();
+        }
+
+        metrics.startPhase("run");
+        if (inMemory)
+            runInMemory(classes);
+        else
+            runClassFiles();
+        metrics.endPhase();
+
+        metrics.writeJson(metricsPath);
     }
 
-    private static void runJasminCode() {
+    private static void writeClassFiles(Map<String, byte[]> classes) throws IOException {
+        File directory = new File(OUTPUT_PATH);
+        File[] files = directory.listFiles();
+        if(files != null)
+            for (File file : files)
+                file.delete();
+        directory.mkdir();
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            try (OutputStream classFile = new FileOutputStream(OUTPUT_PATH + entry.getKey() + ".class")) {
+                classFile.write(entry.getValue());
+            }
+        }
+    }
+
+    private static void runClassFiles() {
         try {
             System.out.println("---------------------------Compilation Successful---------------------------");
-            File dir = new File("./codeGenOutput");
-            Process process = Runtime.getRuntime().exec("java -jar jasmin.jar *.j", null, dir);
-            printResults(process.getErrorStream());
-            process = Runtime.getRuntime().exec("java Main", null, dir);
+            File dir = new File(OUTPUT_PATH);
+            String classPath = "." + File.pathSeparator + locateRuntimeJar().getAbsolutePath();
+            Process process = Runtime.getRuntime().exec(new String[]{"java", "-cp", classPath, "Main"}, null, dir);
             printResults(process.getInputStream());
             printResults(process.getErrorStream());
         } catch (IOException e) {
@@ -53,6 +151,63 @@ public class FunctionCraft {
         }
     }
 
+    // Defines the classes in this JVM and calls Main.main directly, so nothing is written
+    // to codeGenOutput and no second JVM is started.
+    private static void runInMemory(Map<String, byte[]> classes) {
+        System.out.println("---------------------------Compilation Successful---------------------------");
+        try {
+            new GeneratedClassLoader(classes, createRuntimeLoader()).loadClass("Main")
+                    .getMethod("main", String[].class).invoke(null, (Object) new String[0]);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            StackTraceElement[] trace = cause.getStackTrace();
+            int depth = 0;
+            while (depth < trace.length && !trace[depth].getClassName().startsWith("jdk.internal.reflect."))
+                depth++;
+            cause.setStackTrace(Arrays.copyOf(trace, depth));
+            System.out.print("Exception in thread \"main\" ");
+            cause.printStackTrace(System.out);
+        } catch (ReflectiveOperationException | IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static ClassLoader createRuntimeLoader() throws IOException {
+        URL runtimeJar = locateRuntimeJar().toURI().toURL();
+        return new URLClassLoader(new URL[]{runtimeJar}, FunctionCraft.class.getClassLoader());
+    }
+
+    public static File locateRuntimeJar() throws FileNotFoundException {
+        File runtimeJar = locate(RUNTIME_JAR);
+        if (runtimeJar == null)
+            throw new FileNotFoundException("runtime library " + RUNTIME_JAR +
+                    " not found next to the compiler or in the current directory");
+        return runtimeJar;
+    }
+
+    // Finds a file shipped with the compiler, such as the runtime jar or the examples.
+    // It is looked up from the jar or class directory the compiler was loaded from
+    // upwards, in each directory and in its build subdirectory, and last in the current
+    // directory, so the compiler works from any working directory. Returns null when
+    // the file is nowhere to be found.
+    public static File locate(String relativePath) {
+        File directory = null;
+        try {
+            File codeSource = new File(FunctionCraft.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            directory = codeSource.isFile() ? codeSource.getParentFile() : codeSource;
+        } catch (URISyntaxException | SecurityException ignored) {}
+        for (; directory != null; directory = directory.getParentFile()) {
+            File candidate = new File(directory, relativePath);
+            if (candidate.exists())
+                return candidate;
+            candidate = new File(new File(directory, "build"), relativePath);
+            if (candidate.exists())
+                return candidate;
+        }
+        File candidate = new File(relativePath).getAbsoluteFile();
+        return candidate.exists() ? candidate : null;
+    }
+
     private static void printResults(InputStream stream) {
         BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
         String line;
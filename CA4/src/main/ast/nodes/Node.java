@@ -6,8 +6,15 @@ import main.visitor.IVisitor;
 import java.util.ArrayList;
 
 public abstract class Node {
+    private static long createdNodes;
     private int line;
 
+    public Node() {
+        createdNodes++;
+    }
+    public static long getCreatedNodes() {
+        return createdNodes;
+    }
     public void setLine(int line){this.line = line;}
     public int getLine(){return this.line;}
     public abstract String toString();
@@ -10,6 +10,7 @@ public class PatternDeclaration extends Declaration{
     private Identifier patternName;
     private Identifier targetVariable;
     private ArrayList<Expression> conditions = new ArrayList<>();
+    private ArrayList<ArrayList<Expression>> caseConditions = new ArrayList<>();
     private ArrayList<Expression> returnExp = new ArrayList<>();
     public PatternDeclaration(Identifier name, Identifier targetVariable){
         this.patternName = name;
@@ -22,7 +23,12 @@ public class PatternDeclaration extends Declaration{
     public Identifier getTargetVariable(){return this.targetVariable;}
 
     public ArrayList<Expression> getConditions(){return this.conditions;}
-    public void setConditions(ArrayList<Expression> conditions){this.conditions.addAll((conditions));}
+    public void setConditions(ArrayList<Expression> conditions){
+        this.conditions.addAll((conditions));
+        this.caseConditions.add(conditions);
+    }
+    // the guard of each case, in the same order as getReturnExp()
+    public ArrayList<ArrayList<Expression>> getCaseConditions(){return this.caseConditions;}
     public void addCondition(Expression condition){this.conditions.add(condition);}
 
     public ArrayList<Expression> getReturnExp(){return this.returnExp;}
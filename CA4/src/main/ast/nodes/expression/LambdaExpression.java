@@ -1,5 +1,6 @@
 package main.ast.nodes.expression;
 
+import main.ast.nodes.declaration.FunctionDeclaration;
 import main.ast.nodes.declaration.VarDeclaration;
 import main.ast.nodes.statement.Statement;
 import main.visitor.IVisitor;
@@ -9,6 +10,10 @@ import java.util.ArrayList;
 public class LambdaExpression extends Expression{
     ArrayList<VarDeclaration> declarationArgs = new ArrayList<>();
     ArrayList<Statement> body = new ArrayList<>();
+    // Set by the type checker: the static method the lambda compiles to, whose
+    // arguments are the captured variables followed by the declared ones.
+    FunctionDeclaration functionDeclaration;
+    ArrayList<Identifier> capturedVariables = new ArrayList<>();
 //    ArrayList<Expression> args =  new ArrayList<>();
     public LambdaExpression(ArrayList<VarDeclaration> declarationArgs, ArrayList<Statement> body
                             ){
@@ -40,6 +45,22 @@ public class LambdaExpression extends Expression{
     public ArrayList<VarDeclaration> getDeclarationArgs() {
         return declarationArgs;
     }
+
+    public FunctionDeclaration getFunctionDeclaration() {
+        return functionDeclaration;
+    }
+
+    public void setFunctionDeclaration(FunctionDeclaration functionDeclaration) {
+        this.functionDeclaration = functionDeclaration;
+    }
+
+    public ArrayList<Identifier> getCapturedVariables() {
+        return capturedVariables;
+    }
+
+    public void setCapturedVariables(ArrayList<Identifier> capturedVariables) {
+        this.capturedVariables = capturedVariables;
+    }
     @Override
     public String toString(){return "LambdaExpression";}
     @Override
@@ -1,5 +1,5 @@
 package main.ast.nodes.expression.operators;
 
 public enum BinaryOperator {
-    EQUAL, NOT_EQUAL, GREATER_THAN, LESS_THAN, LESS_EQUAL_THAN, GREATER_EQUAL_THAN, PLUS, MINUS, MULT, DIVIDE, MOD
+    EQUAL, NOT_EQUAL, GREATER_THAN, LESS_THAN, LESS_EQUAL_THAN, GREATER_EQUAL_THAN, PLUS, MINUS, MULT, DIVIDE, MOD, AND, OR
 }
@@ -3,6 +3,7 @@ package main.ast.nodes.statement;
 
 import main.ast.nodes.expression.Identifier;
 import main.ast.nodes.expression.RangeExpression;
+import main.symbolTable.SymbolTable;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
@@ -12,6 +13,16 @@ public class ForStatement extends Statement{
     private RangeExpression rangeExpression;
     private ArrayList<Statement> loopBodyStmts;
 
+    private SymbolTable symbolTable;
+
+    public void setSymbolTable(SymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    public SymbolTable getSymbolTable() {
+        return symbolTable;
+    }
+
     public ForStatement(Identifier identifierId, RangeExpression rangeExpression, ArrayList<Statement> loopBodyStmts){
         this.iteratorId = identifierId;
         this.rangeExpression = rangeExpression;
@@ -2,17 +2,31 @@ package main.ast.type;
 
 import main.ast.type.Type;
 
+import java.util.ArrayList;
+
 public class FptrType extends Type {
     private String functionName;
+    // Types of the values bound ahead of the call arguments, i.e. what a lambda captured.
+    private ArrayList<Type> capturedTypes = new ArrayList<>();
     public FptrType(String functionName) {
         this.functionName = functionName;
     }
+    public FptrType(String functionName, ArrayList<Type> capturedTypes) {
+        this.functionName = functionName;
+        this.capturedTypes = capturedTypes;
+    }
     public String getFunctionName() {
         return functionName;
     }
     public void setFunctionName(String functionName) {
         this.functionName = functionName;
     }
+    public ArrayList<Type> getCapturedTypes() {
+        return capturedTypes;
+    }
+    public void setCapturedTypes(ArrayList<Type> capturedTypes) {
+        this.capturedTypes = capturedTypes;
+    }
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
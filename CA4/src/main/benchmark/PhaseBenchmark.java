@@ -0,0 +1,273 @@
+package main.benchmark;
+
+import main.FunctionCraft;
+import main.ast.nodes.Program;
+import main.visitor.codeGenerator.CodeGenerator;
+import main.visitor.codeGenerator.JasminAssembler;
+import main.visitor.optimizer.ConstantFolder;
+import main.visitor.optimizer.DeadCodeEliminator;
+import main.visitor.type.TypeChecker;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import parsers.FunctionCraftLexer;
+import parsers.FunctionCraftParser;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Measures every compiler phase on a corpus of FunctionCraft sources.
+// Each operation lexes and parses, type checks, generates and assembles one program;
+// the time and the bytes allocated by the running thread are charged to the phase
+// they were spent in, so one run gives throughput, average time and allocation rate
+// for all four phases.
+//
+// --functions takes a comma separated list of sizes and adds one ProgramGenerator
+// program per size to the corpus, shaped by the remaining generator options. When a
+// program gets through some phases but not all of them (a generated Main with too
+// many methods for one class file, say), the phases before the failure are still
+// measured.
+//
+// usage: PhaseBenchmark [--warmup N] [--iterations N] [--time MILLIS]
+//                       [--functions N,N,...] [--patterns N] [--depth N] [--fanout N] [--list-size N]
+//                       [file or directory ...]
+public class PhaseBenchmark {
+    public static final String[] PHASES = {"parse", "typecheck", "codegen", "assemble"};
+    private static final int PARSE = 0;
+    private static final int TYPECHECK = 1;
+    private static final int CODEGEN = 2;
+    private static final int ASSEMBLE = 3;
+    private static final String[] DEFAULT_SOURCES =
+            {"examples", "CA1/samples", "CA2/samples", "CA3/samples", "CA4/samples"};
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final long[] nanos = new long[PHASES.length];
+    private final long[] bytes = new long[PHASES.length];
+    private long operations;
+    private long lapNanos;
+    private long lapBytes;
+    private String problem;
+
+    public PhaseBenchmark(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int warmupIterations = 3;
+        int measurementIterations = 5;
+        long iterationMillis = 1000;
+        String[] functions = {};
+        int patterns = 0;
+        int depth = 2;
+        int fanOut = 2;
+        int listSize = 4;
+        ArrayList<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup" -> warmupIterations = Integer.parseInt(args[++i]);
+                case "--iterations" -> measurementIterations = Integer.parseInt(args[++i]);
+                case "--time" -> iterationMillis = Long.parseLong(args[++i]);
+                case "--functions" -> functions = args[++i].split(",");
+                case "--patterns" -> patterns = Integer.parseInt(args[++i]);
+                case "--depth" -> depth = Integer.parseInt(args[++i]);
+                case "--fanout" -> fanOut = Integer.parseInt(args[++i]);
+                case "--list-size" -> listSize = Integer.parseInt(args[++i]);
+                default -> paths.add(args[i]);
+            }
+        }
+        Map<String, String> sources;
+        try {
+            sources = paths.isEmpty() && functions.length == 0
+                    ? loadSources(Arrays.asList(DEFAULT_SOURCES), locateRepository())
+                    : loadSources(paths, null);
+        } catch (FileNotFoundException e) {
+            System.err.println("error: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        for (String size : functions) {
+            ProgramGenerator generator = new ProgramGenerator(Integer.parseInt(size), patterns, depth, fanOut, listSize);
+            sources.put("generated f=" + size + " p=" + patterns + " d=" + depth + " k=" + fanOut + " l=" + listSize,
+                    generator.generate());
+        }
+        new PhaseBenchmark(warmupIterations, measurementIterations, iterationMillis).run(sources);
+    }
+
+    // The default corpus is the repository's own examples and samples, found next to the
+    // compiler rather than in the working directory, so a run without arguments measures
+    // the same programs wherever it is started from.
+    public static File locateRepository() throws FileNotFoundException {
+        File examples = FunctionCraft.locate("examples");
+        if (examples == null)
+            throw new FileNotFoundException("the examples directory was not found next to the compiler " +
+                    "or in the current directory; pass the sources to measure instead");
+        return examples.getParentFile();
+    }
+
+    // Reads every .fl file named by paths, each resolved against base when it is given.
+    // Sources are keyed by their path as written, so results compare across machines.
+    public static Map<String, String> loadSources(List<String> paths, File base) throws IOException {
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (String path : paths) {
+            File file = base == null ? new File(path) : new File(base, path);
+            if (!file.exists())
+                throw new FileNotFoundException(file.getPath() + " does not exist");
+            if (!file.isDirectory()) {
+                sources.put(path, Files.readString(file.toPath()));
+                continue;
+            }
+            String[] names = file.list((dir, name) -> name.endsWith(".fl"));
+            if (names == null || names.length == 0)
+                throw new FileNotFoundException(file.getPath() + " has no .fl sources");
+            Arrays.sort(names);
+            for (String name : names)
+                sources.put(new File(path, name).getPath(), Files.readString(new File(file, name).toPath()));
+        }
+        return sources;
+    }
+
+    public void run(Map<String, String> sources) {
+        System.out.printf("%-40s %-10s %14s %14s %14s %14s%n",
+                "Benchmark", "Phase", "ops/s", "us/op", "B/op", "MB/s alloc");
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            problem = null;
+            int phases = check(entry.getValue());
+            if (phases == 0) {
+                System.out.printf("%-40s skipped: %s%n", entry.getKey(), problem);
+                continue;
+            }
+            measure(entry.getKey(), entry.getValue(), phases);
+            if (phases < PHASES.length)
+                System.out.printf("%-40s %-10s skipped: %s%n", "", PHASES[phases], problem);
+        }
+    }
+
+    // Runs the pipeline once untimed and returns how many phases completed cleanly;
+    // anything after a failing phase would only measure error paths, so it is left
+    // out of the run. A source with syntax or type errors is not measured at all.
+    private int check(String source) {
+        int phase = PARSE;
+        try {
+            FunctionCraftParser parser = createParser(source);
+            Program program = parser.program().flProgram;
+            if (parser.getNumberOfSyntaxErrors() > 0) {
+                problem = "syntax errors";
+                return 0;
+            }
+            phase = TYPECHECK;
+            TypeChecker typeChecker = new TypeChecker();
+            typeChecker.visit(program);
+            if (!typeChecker.typeErrors.isEmpty()) {
+                problem = "type errors";
+                return 0;
+            }
+            phase = CODEGEN;
+            new ConstantFolder().fold(program);
+            Set<String> reachable = new DeadCodeEliminator().eliminate(program);
+            CodeGenerator codeGenerator = new CodeGenerator(typeChecker);
+            codeGenerator.setReachable(reachable);
+            codeGenerator.visit(program);
+            phase = ASSEMBLE;
+            JasminAssembler.assemble(codeGenerator.getMainListing(), "Main.j");
+            return PHASES.length;
+        } catch (Exception | VirtualMachineError e) {
+            problem = e.getClass().getSimpleName() +
+                    (e.getMessage() == null ? "" : ": " + e.getMessage().lines().findFirst().orElse(""));
+            return phase;
+        }
+    }
+
+    private void measure(String name, String source, int phases) {
+        for (int i = 0; i < warmupIterations; i++)
+            iteration(source, phases);
+        Arrays.fill(nanos, 0);
+        Arrays.fill(bytes, 0);
+        operations = 0;
+        for (int i = 0; i < measurementIterations; i++)
+            iteration(source, phases);
+
+        for (int phase = 0; phase < phases; phase++) {
+            double seconds = nanos[phase] / 1e9;
+            System.out.printf("%-40s %-10s %14.1f %14.2f %14d %14.1f%n",
+                    phase == 0 ? name : "",
+                    PHASES[phase],
+                    operations / seconds,
+                    nanos[phase] / 1e3 / operations,
+                    bytes[phase] / operations,
+                    bytes[phase] / seconds / 1e6);
+        }
+    }
+
+    private void iteration(String source, int phases) {
+        long end = System.nanoTime() + iterationNanos;
+        while (System.nanoTime() < end) {
+            operation(source, phases);
+            operations++;
+        }
+    }
+
+    private void operation(String source, int phases) {
+        try {
+            startLap();
+            Program program = createParser(source).program().flProgram;
+            endLap(PARSE);
+            if (phases == TYPECHECK)
+                return;
+            TypeChecker typeChecker = new TypeChecker();
+            typeChecker.visit(program);
+            endLap(TYPECHECK);
+            if (phases == CODEGEN)
+                return;
+            new ConstantFolder().fold(program);
+            Set<String> reachable = new DeadCodeEliminator().eliminate(program);
+            CodeGenerator codeGenerator = new CodeGenerator(typeChecker);
+            codeGenerator.setReachable(reachable);
+            codeGenerator.visit(program);
+            String listing = codeGenerator.getMainListing();
+            endLap(CODEGEN);
+            if (phases == ASSEMBLE)
+                return;
+            JasminAssembler.assemble(listing, "Main.j");
+            endLap(ASSEMBLE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static FunctionCraftParser createParser(String source) {
+        FunctionCraftLexer lexer = new FunctionCraftLexer(CharStreams.fromString(source));
+        lexer.removeErrorListeners();
+        FunctionCraftParser parser = new FunctionCraftParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        return parser;
+    }
+
+    private void startLap() {
+        lapNanos = System.nanoTime();
+        lapBytes = threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private void endLap(int phase) {
+        long now = System.nanoTime();
+        long allocated = threadBean.getCurrentThreadAllocatedBytes();
+        nanos[phase] += now - lapNanos;
+        bytes[phase] += allocated - lapBytes;
+        lapNanos = now;
+        lapBytes = allocated;
+    }
+}
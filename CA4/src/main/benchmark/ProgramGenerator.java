@@ -0,0 +1,109 @@
+package main.benchmark;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// Emits valid FunctionCraft programs of a chosen size for scaling measurements.
+// Functions form a call tree: f0 is called from main and every function calls the
+// next `fanOut` functions below it, so all of them are reachable and type checked
+// without recursion. Each function body is wrapped in `depth` nested if statements
+// and builds a list literal of `listSize` elements; patterns are spread over the
+// functions and matched on their running result.
+//
+// usage: ProgramGenerator [--functions N] [--patterns N] [--depth N] [--fanout N]
+//                         [--list-size N] [--output FILE]
+public class ProgramGenerator {
+    private final int functions;
+    private final int patterns;
+    private final int depth;
+    private final int fanOut;
+    private final int listSize;
+
+    public ProgramGenerator(int functions, int patterns, int depth, int fanOut, int listSize) {
+        this.functions = Math.max(functions, 1);
+        this.patterns = patterns;
+        this.depth = depth;
+        this.fanOut = Math.max(fanOut, 1);
+        this.listSize = Math.max(listSize, 1);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int functions = 100;
+        int patterns = 0;
+        int depth = 2;
+        int fanOut = 2;
+        int listSize = 4;
+        String output = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--functions" -> functions = Integer.parseInt(args[++i]);
+                case "--patterns" -> patterns = Integer.parseInt(args[++i]);
+                case "--depth" -> depth = Integer.parseInt(args[++i]);
+                case "--fanout" -> fanOut = Integer.parseInt(args[++i]);
+                case "--list-size" -> listSize = Integer.parseInt(args[++i]);
+                case "--output" -> output = args[++i];
+                default -> throw new IllegalArgumentException("unknown option " + args[i]);
+            }
+        }
+        String program = new ProgramGenerator(functions, patterns, depth, fanOut, listSize).generate();
+        if (output == null) {
+            System.out.print(program);
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(new FileWriter(output))) {
+            writer.print(program);
+        }
+    }
+
+    public String generate() {
+        StringBuilder program = new StringBuilder();
+        for (int i = 0; i < patterns; i++)
+            appendPattern(program, i);
+        for (int i = 0; i < functions; i++)
+            appendFunction(program, i);
+        program.append("def main()\n");
+        program.append("    puts(f0(1, 2));\n");
+        program.append("end\n");
+        return program.toString();
+    }
+
+    private void appendPattern(StringBuilder program, int index) {
+        program.append("pattern p").append(index).append("(n)\n");
+        program.append("    | (n > ").append(index).append(") = n - ").append(index + 1).append('\n');
+        program.append("    | (n <= ").append(index).append(") = n + 1\n");
+        program.append(";\n\n");
+    }
+
+    private void appendFunction(StringBuilder program, int index) {
+        program.append("def f").append(index).append("(a, b)\n");
+        appendLine(program, 1, "r = a + b;");
+        StringBuilder list = new StringBuilder("l = [a");
+        for (int i = 1; i < listSize; i++)
+            list.append(", ").append(i);
+        appendLine(program, 1, list.append("];").toString());
+        appendLine(program, 1, "r = r + l[" + (listSize - 1) + "];");
+
+        for (int level = 0; level < depth; level++) {
+            appendLine(program, level + 1, "if (r > " + level + ")");
+            appendLine(program, level + 2, "v" + level + " = r * " + (level + 2) + ";");
+            appendLine(program, level + 2, "r = v" + level + " - r;");
+        }
+        for (int child = fanOut * index + 1; child <= fanOut * index + fanOut && child < functions; child++)
+            appendLine(program, depth + 1, "r = r + f" + child + "(r, " + child + ");");
+        if (patterns > 0)
+            appendLine(program, depth + 1, "r = p" + index % patterns + ".match(r);");
+        for (int level = depth - 1; level >= 0; level--) {
+            appendLine(program, level + 1, "else");
+            appendLine(program, level + 2, "r = r - 1;");
+            appendLine(program, level + 1, "end");
+        }
+
+        appendLine(program, 1, "return r;");
+        program.append("end\n\n");
+    }
+
+    private void appendLine(StringBuilder program, int indent, String line) {
+        program.append("    ".repeat(indent)).append(line).append('\n');
+    }
+}
@@ -0,0 +1,282 @@
+package main.benchmark;
+
+import main.FunctionCraft;
+import main.ast.nodes.Program;
+import main.visitor.codeGenerator.CodeGenerator;
+import main.visitor.codeGenerator.GeneratedClassLoader;
+import main.visitor.codeGenerator.JasminAssembler;
+import main.visitor.optimizer.ConstantFolder;
+import main.visitor.optimizer.DeadCodeEliminator;
+import main.visitor.optimizer.PurityAnalyzer;
+import main.visitor.type.TypeChecker;
+import parsers.FunctionCraftParser;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+// Measures the steady-state speed of compiled FunctionCraft programs.
+// Each workload is compiled once and its Main.main is called repeatedly with the
+// program's output discarded; one call is one operation. Every fork is a fresh JVM
+// that reads the program from its standard input, compiles, warms up and measures on
+// its own and reports ops/s and the bytes allocated per operation back to this
+// process, which averages the forks.
+//
+// --save writes the results to a file and --baseline prints the change against such
+// a file, so a codegen change can be measured before and after.
+//
+// usage: RuntimeBenchmark [--forks N] [--warmup N] [--iterations N] [--time MILLIS] [--memoize]
+//                         [--save FILE] [--baseline FILE] [file or directory ...]
+public class RuntimeBenchmark {
+    private static final String[] DEFAULT_SOURCES =
+            {"examples/is_prime.fl", "examples/pow.fl", "examples/benchmarks"};
+    private static final String CHILD = "--child";
+    private static final String RESULT = "result";
+
+    private final int forks;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationMillis;
+    private final boolean memoize;
+
+    public RuntimeBenchmark(int forks, int warmupIterations, int measurementIterations, long iterationMillis,
+                            boolean memoize) {
+        this.forks = forks;
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationMillis = iterationMillis;
+        this.memoize = memoize;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int forks = 2;
+        int warmupIterations = 5;
+        int measurementIterations = 5;
+        long iterationMillis = 1000;
+        boolean child = false;
+        boolean memoize = false;
+        String savePath = null;
+        String baselinePath = null;
+        ArrayList<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--forks" -> forks = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmupIterations = Integer.parseInt(args[++i]);
+                case "--iterations" -> measurementIterations = Integer.parseInt(args[++i]);
+                case "--time" -> iterationMillis = Long.parseLong(args[++i]);
+                case "--save" -> savePath = args[++i];
+                case "--baseline" -> baselinePath = args[++i];
+                case "--memoize" -> memoize = true;
+                case CHILD -> child = true;
+                default -> paths.add(args[i]);
+            }
+        }
+        RuntimeBenchmark benchmark =
+                new RuntimeBenchmark(forks, warmupIterations, measurementIterations, iterationMillis, memoize);
+        if (child) {
+            benchmark.runChild();
+            return;
+        }
+        Map<String, String> sources;
+        try {
+            sources = paths.isEmpty()
+                    ? PhaseBenchmark.loadSources(Arrays.asList(DEFAULT_SOURCES), PhaseBenchmark.locateRepository())
+                    : PhaseBenchmark.loadSources(paths, null);
+        } catch (FileNotFoundException e) {
+            System.err.println("error: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        Map<String, double[]> baseline = baselinePath == null ? new HashMap<>() : readResults(baselinePath);
+        Map<String, double[]> results = benchmark.run(sources, baseline);
+        if (savePath != null)
+            writeResults(savePath, results);
+    }
+
+    public Map<String, double[]> run(Map<String, String> sources, Map<String, double[]> baseline)
+            throws IOException, InterruptedException {
+        Map<String, double[]> results = new LinkedHashMap<>();
+        System.out.printf("%-40s %14s %14s %10s %10s%n", "Benchmark", "ops/s", "B/op", "ops/s %", "B/op %");
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            String name = entry.getKey();
+            try {
+                compile(entry.getValue());
+            } catch (IllegalArgumentException e) {
+                System.out.printf("%-40s skipped: %s%n", name, e.getMessage());
+                continue;
+            }
+            double[] result;
+            try {
+                result = forks == 0 ? measure(entry.getValue()) : fork(entry.getValue());
+            } catch (IllegalStateException e) {
+                System.out.printf("%-40s failed: %s%n", name, e.getMessage());
+                continue;
+            }
+            results.put(name, result);
+            double[] before = baseline.get(name);
+            System.out.printf("%-40s %14.1f %14.0f %10s %10s%n", name, result[0], result[1],
+                    before == null ? "" : change(before[0], result[0]),
+                    before == null ? "" : change(before[1], result[1]));
+        }
+        return results;
+    }
+
+    private double[] fork(String source) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        double[] total = new double[2];
+        ArrayList<String> command = new ArrayList<>(List.of(java, "-cp", System.getProperty("java.class.path"),
+                RuntimeBenchmark.class.getName(), CHILD,
+                "--warmup", String.valueOf(warmupIterations),
+                "--iterations", String.valueOf(measurementIterations),
+                "--time", String.valueOf(iterationMillis)));
+        if (memoize)
+            command.add("--memoize");
+        for (int i = 0; i < forks; i++) {
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .start();
+            try (OutputStream input = process.getOutputStream()) {
+                input.write(source.getBytes());
+            }
+            double[] result = null;
+            StringBuilder output = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split(" ");
+                    if (fields.length == 3 && fields[0].equals(RESULT))
+                        result = new double[]{Double.parseDouble(fields[1]), Double.parseDouble(fields[2])};
+                    else
+                        output.append(line).append(' ');
+                }
+            }
+            if (process.waitFor() != 0 || result == null)
+                throw new IllegalStateException(output.toString().trim());
+            total[0] += result[0];
+            total[1] += result[1];
+        }
+        return new double[]{total[0] / forks, total[1] / forks};
+    }
+
+    private void runChild() throws IOException {
+        double[] result;
+        try {
+            result = measure(new String(System.in.readAllBytes()));
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.println(RESULT + " " + result[0] + " " + result[1]);
+    }
+
+    private double[] measure(String source) throws IOException {
+        Method main;
+        try {
+            main = new GeneratedClassLoader(compile(source), FunctionCraft.createRuntimeLoader())
+                    .loadClass("Main").getMethod("main", String[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e.toString());
+        }
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Object[] arguments = {new String[0]};
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            long operations = 0;
+            long nanos = 0;
+            long bytes = 0;
+            for (int i = 0; i < warmupIterations + measurementIterations; i++) {
+                long startBytes = threadBean.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                long end = start + iterationMillis * 1_000_000L;
+                long iterationOperations = 0;
+                long now;
+                do {
+                    main.invoke(null, arguments);
+                    iterationOperations++;
+                } while ((now = System.nanoTime()) < end);
+                if (i >= warmupIterations) {
+                    operations += iterationOperations;
+                    nanos += now - start;
+                    bytes += threadBean.getCurrentThreadAllocatedBytes() - startBytes;
+                }
+            }
+            return new double[]{operations / (nanos / 1e9), (double) bytes / operations};
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause().toString());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e.toString());
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    // Compiles a program to its class files, or explains why it cannot be measured.
+    // Jasmin reports syntax errors on the console, which would interleave with the
+    // report, so the console is muted while compiling.
+    private Map<String, byte[]> compile(String source) {
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            FunctionCraftParser parser = PhaseBenchmark.createParser(source);
+            Program program = parser.program().flProgram;
+            if (parser.getNumberOfSyntaxErrors() > 0)
+                throw new IllegalArgumentException("syntax errors");
+            TypeChecker typeChecker = new TypeChecker();
+            typeChecker.visit(program);
+            if (!typeChecker.typeErrors.isEmpty())
+                throw new IllegalArgumentException("type errors");
+            new ConstantFolder().fold(program);
+            Set<String> reachable = new DeadCodeEliminator().eliminate(program);
+            CodeGenerator codeGenerator = new CodeGenerator(typeChecker);
+            codeGenerator.setReachable(reachable);
+            if (memoize)
+                codeGenerator.setMemoizable(new PurityAnalyzer().findPure(program));
+            codeGenerator.visit(program);
+
+            Map<String, byte[]> classes = new HashMap<>();
+            classes.put("Main", JasminAssembler.assemble(codeGenerator.getMainListing(), "Main.j"));
+            return classes;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception | StackOverflowError e) {
+            throw new IllegalArgumentException(e.getClass().getSimpleName() +
+                    (e.getMessage() == null ? "" : ": " + e.getMessage().lines().findFirst().orElse("")));
+        } finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+    }
+
+    private static String change(double before, double after) {
+        if (before == 0)
+            return "";
+        return String.format("%+.1f", (after - before) / before * 100);
+    }
+
+    private static Map<String, double[]> readResults(String path) throws IOException {
+        Map<String, double[]> results = new HashMap<>();
+        for (String line : Files.readAllLines(Paths.get(path))) {
+            String[] fields = line.split("\t");
+            results.put(fields[0], new double[]{Double.parseDouble(fields[1]), Double.parseDouble(fields[2])});
+        }
+        return results;
+    }
+
+    private static void writeResults(String path, Map<String, double[]> results) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(path))) {
+            for (Map.Entry<String, double[]> entry : results.entrySet())
+                writer.println(entry.getKey() + "\t" + entry.getValue()[0] + "\t" + entry.getValue()[1]);
+        }
+    }
+}
@@ -10,6 +10,29 @@ grammar FunctionCraft;
     import main.ast.nodes.expression.value.primitive.*;
 }
 
+@parser::members{
+    // `&&` binds tighter than `||` and both group to the left
+    private static Expression connect(ArrayList<Expression> operands, ArrayList<BinaryOperator> connectives) {
+        Expression disjunction = null;
+        Expression conjunction = operands.get(0);
+        for (int i = 0; i < connectives.size(); i++) {
+            if (connectives.get(i) == BinaryOperator.AND) {
+                conjunction = join(conjunction, operands.get(i + 1), BinaryOperator.AND);
+                continue;
+            }
+            disjunction = disjunction == null ? conjunction : join(disjunction, conjunction, BinaryOperator.OR);
+            conjunction = operands.get(i + 1);
+        }
+        return disjunction == null ? conjunction : join(disjunction, conjunction, BinaryOperator.OR);
+    }
+
+    private static Expression join(Expression first, Expression second, BinaryOperator operator) {
+        BinaryExpression joined = new BinaryExpression(first, second, operator);
+        joined.setLine(first.getLine());
+        return joined;
+    }
+}
+
 
 program returns [Program flProgram]:
     {
@@ -176,17 +199,45 @@ ifStatement returns[IfStatement ifRet]:
     )?
      END;
 
-condition returns [ArrayList<Expression> conditionRet]:
+condition returns [ArrayList<Expression> conditionRet, ArrayList<Expression> operands, ArrayList<BinaryOperator> connectives]
+    locals [boolean grouped]:
     {
         $conditionRet = new ArrayList<Expression>();
+        $operands = new ArrayList<Expression>();
+        $connectives = new ArrayList<BinaryOperator>();
     }
-    (LPAR e = expression
-     {$conditionRet.add($e.expRet);}
-     RPAR ((AND | OR) (LPAR)? c = condition
+    (LPAR (e = expression
      {
-        $conditionRet.addAll($c.conditionRet);
+        if (!$operands.isEmpty())
+            $connectives.add(BinaryOperator.AND);
+        $operands.add($e.expRet);
      }
-     (RPAR)?)*)*;
+     | g = condition
+     {
+        if (!$g.conditionRet.isEmpty()) {
+            if (!$operands.isEmpty())
+                $connectives.add(BinaryOperator.AND);
+            $operands.add($g.conditionRet.get(0));
+        }
+     })
+     RPAR (op = (AND | OR) {$grouped = false;} (LPAR {$grouped = true;})? c = condition
+     {
+        // a parenthesized group is one operand; otherwise precedence spans both parts
+        if ($grouped && !$c.conditionRet.isEmpty()) {
+            $connectives.add($op.type == AND ? BinaryOperator.AND : BinaryOperator.OR);
+            $operands.add($c.conditionRet.get(0));
+        }
+        else if (!$c.operands.isEmpty()) {
+            $connectives.add($op.type == AND ? BinaryOperator.AND : BinaryOperator.OR);
+            $operands.addAll($c.operands);
+            $connectives.addAll($c.connectives);
+        }
+     }
+     (RPAR)?)*)*
+    {
+        if (!$operands.isEmpty())
+            $conditionRet.add(connect($operands, $connectives));
+    };
 
 putsStatement returns [PutStatement putRet]:
     p = PUTS LPAR e = expression
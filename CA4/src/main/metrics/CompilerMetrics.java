@@ -0,0 +1,93 @@
+package main.metrics;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Collects wall time, CPU time, allocated bytes and peak heap usage of each driver
+// phase together with named counters, and writes them as a JSON report. A disabled
+// instance ignores every call, so the driver can report unconditionally.
+public class CompilerMetrics {
+    private static final String[] FIELDS = {"wallNanos", "cpuNanos", "allocatedBytes", "peakHeapBytes"};
+
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+    private final Map<String, long[]> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    private String phase;
+    private long startWall;
+    private long startCpu;
+    private long startBytes;
+
+    public CompilerMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP)
+                heapPools.add(pool);
+    }
+
+    public void startPhase(String name) {
+        if (!enabled)
+            return;
+        phase = name;
+        for (MemoryPoolMXBean pool : heapPools)
+            pool.resetPeakUsage();
+        startBytes = threadBean.getCurrentThreadAllocatedBytes();
+        startCpu = threadBean.getCurrentThreadCpuTime();
+        startWall = System.nanoTime();
+    }
+
+    public void endPhase() {
+        if (!enabled)
+            return;
+        long wall = System.nanoTime() - startWall;
+        long cpu = threadBean.getCurrentThreadCpuTime() - startCpu;
+        long bytes = threadBean.getCurrentThreadAllocatedBytes() - startBytes;
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : heapPools)
+            peakHeap += pool.getPeakUsage().getUsed();
+        phases.put(phase, new long[]{wall, cpu, bytes, peakHeap});
+    }
+
+    public void count(String name, long value) {
+        if (enabled)
+            counters.put(name, value);
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"phases\": {");
+        String separator = "\n";
+        for (Map.Entry<String, long[]> entry : phases.entrySet()) {
+            json.append(separator).append("    \"").append(entry.getKey()).append("\": {");
+            for (int i = 0; i < FIELDS.length; i++)
+                json.append(i == 0 ? "" : ", ").append('"').append(FIELDS[i]).append("\": ").append(entry.getValue()[i]);
+            json.append('}');
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"counters\": {");
+        separator = "\n";
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            json.append(separator).append("    \"").append(entry.getKey()).append("\": ").append(entry.getValue());
+            separator = ",\n";
+        }
+        return json.append("\n  }\n}\n").toString();
+    }
+
+    public void writeJson(String path) throws IOException {
+        if (!enabled)
+            return;
+        try (PrintWriter writer = new PrintWriter(new FileWriter(path))) {
+            writer.print(toJson());
+        }
+    }
+}
@@ -12,7 +12,9 @@ public class SymbolTable {
     public static SymbolTable top;
     public static SymbolTable root;
     private static Stack<SymbolTable> stack = new Stack<>();
+    private static long lookups;
     private Map<String, SymbolTableItem> items;
+    private SymbolTable parent;
     public static void push(SymbolTable symbolTable) {
         if (top != null)
             stack.push(top);
@@ -24,22 +26,35 @@ public class SymbolTable {
     public SymbolTable() {
         this.items = new HashMap<>();
     }
+    // A nested scope only holds the names declared in it and falls back to its
+    // parent for everything else, so entering a block does not copy the items.
+    public SymbolTable(SymbolTable parent) {
+        this();
+        this.parent = parent;
+    }
     public void put(SymbolTableItem item) throws ItemAlreadyExists {
-        if (items.containsKey(item.getKey()))
+        if (find(item.getKey()) != null)
             throw new ItemAlreadyExists();
         items.put(item.getKey(), item);
     }
+    public static long getLookups() {
+        return lookups;
+    }
     public SymbolTableItem getItem(String key) throws ItemNotFound {
-        SymbolTableItem symbolTableItem = this.items.get(key);
+        lookups++;
+        SymbolTableItem symbolTableItem = find(key);
         if( symbolTableItem != null ){
             return symbolTableItem;
         }
         throw new ItemNotFound();
     }
-    public SymbolTable copy() {
-        SymbolTable newSymbolTable = new SymbolTable();
-        newSymbolTable.items.putAll(this.items);
-        return newSymbolTable;
+    private SymbolTableItem find(String key) {
+        for (SymbolTable scope = this; scope != null; scope = scope.parent) {
+            SymbolTableItem symbolTableItem = scope.items.get(key);
+            if (symbolTableItem != null)
+                return symbolTableItem;
+        }
+        return null;
     }
 
 }
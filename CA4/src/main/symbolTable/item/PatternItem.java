@@ -9,6 +9,7 @@ public class PatternItem extends SymbolTableItem{
     private SymbolTable patternSymbolTable;
     private PatternDeclaration patternDeclaration;
     private Type targetVarType;
+    private Type returnType;
 
     public Type getTargetVarType() {
         return targetVarType;
@@ -18,6 +19,14 @@ public class PatternItem extends SymbolTableItem{
         this.targetVarType = targetVarType;
     }
 
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    public void setReturnType(Type returnType) {
+        this.returnType = returnType;
+    }
+
     public PatternItem(PatternDeclaration patternDeclaration){
         this.patternDeclaration = patternDeclaration;
         this.name = this.patternDeclaration.getPatternName().getName();
@@ -3,9 +3,11 @@ package main.visitor.codeGenerator;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.FunctionDeclaration;
 import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
 import main.ast.nodes.declaration.VarDeclaration;
 import main.ast.nodes.expression.*;
 import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
 import main.ast.nodes.expression.value.FunctionPointer;
 import main.ast.nodes.expression.value.ListValue;
 import main.ast.nodes.expression.value.primitive.BoolValue;
@@ -22,36 +24,39 @@ import main.ast.type.primitiveType.StringType;
 import main.symbolTable.SymbolTable;
 import main.symbolTable.exceptions.ItemNotFound;
 import main.symbolTable.item.FunctionItem;
+import main.symbolTable.item.PatternItem;
 import main.visitor.Visitor;
 import main.visitor.type.TypeChecker;
 
-import java.io.*;
 import java.util.*;
 
 public class CodeGenerator extends Visitor<String> {
-    private final String outputPath;
-    private FileWriter mainFile;
+    private final StringBuilder mainFile = new StringBuilder();
     private final TypeChecker typeChecker;
     private final Set<String> visited;
     private FunctionItem curFunction;
 
-    private final HashMap<String, Type> returnTypes = new HashMap<>();
     private final HashMap<String, Integer> slots = new HashMap<>();
+    private int firstSlot = 0;
 
     private Stack<String> loopStartLabels = new Stack<>();
     private Stack<String> loopEndLabels = new Stack<>();
     private int curLabel = 0;
+    private Set<String> memoizable = new HashSet<>();
+    private Set<String> reachable;
+    private String tailCallKey;
+    private String tailCallStartL;
+    private boolean tailCallUsed;
+    private final Map<String, ArrayList<Type>> memoized = new LinkedHashMap<>();
 
     public CodeGenerator(TypeChecker typeChecker){
         this.typeChecker = typeChecker;
         this.visited = typeChecker.visited;
-        outputPath = "./codeGenOutput/";
-        prepareOutputFolder();
     }
     private int slotOf(String var) {
         if (!slots.containsKey(var)) {
-            slots.put(var, slots.size() + 1);
-            return slots.size();
+            slots.put(var, slots.size() + firstSlot);
+            return slots.get(var);
         }
         return slots.get(var);
     }
@@ -64,97 +69,114 @@ public class CodeGenerator extends Visitor<String> {
         String type = "";
         switch (element){
             case StringType stringType -> type += "Ljava/lang/String;";
-            case IntType intType -> type += "Ljava/lang/Integer;";
+            case IntType intType -> type += "I";
             case FptrType fptrType -> type += "LFptr;";
-            case ListType listType -> type += "LList;";
-            case BoolType boolType -> type += "Ljava/lang/Boolean;";
+            case ListType listType -> type += "L" + getListClass(listType) + ";";
+            case BoolType boolType -> type += "Z";
             case null, default -> {
                 type += "V";
             }
         }
         return type;
     }
-    private void prepareOutputFolder(){
-        String jasminPath = "utilities/jarFiles/jasmin.jar";
-        String listClassPath = "utilities/codeGenerationUtilityClasses/List.j";
-        String fptrClassPath = "utilities/codeGenerationUtilityClasses/Fptr.j";
-        try{
-            File directory = new File(this.outputPath);
-            File[] files = directory.listFiles();
-            if(files != null)
-                for (File file : files)
-                    file.delete();
-            directory.mkdir();
-        }
-        catch(SecurityException e){
-            // ignore
-        }
-        copyFile(jasminPath, this.outputPath + "jasmin.jar");
-        copyFile(listClassPath, this.outputPath + "List.j");
-        copyFile(fptrClassPath, this.outputPath + "Fptr.j");
-
-        try {
-            String path = outputPath + "Main.j";
-            File file = new File(path);
-            file.createNewFile();
-            mainFile = new FileWriter(path);
-        } catch (IOException e){
-            // ignore
-        }
+    private boolean isPrimitive(Type type){
+        return type instanceof IntType || type instanceof BoolType;
     }
-    private void copyFile(String toBeCopied, String toBePasted){
-        try {
-            File readingFile = new File(toBeCopied);
-            File writingFile = new File(toBePasted);
-            InputStream readingFileStream = new FileInputStream(readingFile);
-            OutputStream writingFileStream = new FileOutputStream(writingFile);
-            byte[] buffer = new byte[1024];
-            int readLength;
-            while ((readLength = readingFileStream.read(buffer)) > 0)
-                writingFileStream.write(buffer, 0, readLength);
-            readingFileStream.close();
-            writingFileStream.close();
-        } catch (IOException e){
-            // ignore
-        }
+    // Lists of ints and bools keep their elements unboxed in IntList and BoolList.
+    private String getListClass(ListType listType){
+        return switch (listType.getType()) {
+            case IntType intType -> "IntList";
+            case BoolType boolType -> "BoolList";
+            case null, default -> "List";
+        };
+    }
+    private String getElementDescriptor(ListType listType){
+        return isPrimitive(listType.getType()) ? getType(listType.getType()) : "Ljava/lang/Object;";
+    }
+    private String loadCommand(Type type, int slot){
+        return (isPrimitive(type) ? "iload " : "aload ") + slot;
+    }
+    private String storeCommand(Type type, int slot){
+        return (isPrimitive(type) ? "istore " : "astore ") + slot;
+    }
+    private String box(Type type){
+        if (type instanceof IntType)
+            return "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;";
+        if (type instanceof BoolType)
+            return "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;";
+        return "";
+    }
+    private String unbox(Type type){
+        return switch (type) {
+            case IntType intType -> "checkcast java/lang/Integer\n" +
+                    "invokevirtual java/lang/Integer/intValue()I";
+            case BoolType boolType -> "checkcast java/lang/Boolean\n" +
+                    "invokevirtual java/lang/Boolean/booleanValue()Z";
+            case StringType stringType -> "checkcast java/lang/String";
+            case ListType listType -> "checkcast " + getListClass(listType);
+            case FptrType fptrType -> "checkcast Fptr";
+            case null, default -> "";
+        };
     }
     private void addCommand(String command){
-        try {
-            command = String.join("\n\t\t", command.split("\n"));
-            if(command.startsWith("Label_"))
-                mainFile.write("\t" + command + "\n");
-            else if(command.startsWith("."))
-                mainFile.write(command + "\n");
-            else
-                mainFile.write("\t\t" + command + "\n");
-            mainFile.flush();
-        } catch (IOException e){
-            // ignore
-        }
+        command = String.join("\n\t\t", command.split("\n"));
+        if(command.startsWith("Label_"))
+            mainFile.append("\t").append(command).append("\n");
+        else if(command.startsWith("."))
+            mainFile.append(command).append("\n");
+        else
+            mainFile.append("\t\t").append(command).append("\n");
     }
-    private void handleMainClass(){
-        String commands = """
-                .method public static main([Ljava/lang/String;)V
-                .limit stack 128
-                .limit locals 128
-                new Main
-                invokespecial Main/<init>()V
-                return
-                .end method
-                """;
-        addCommand(commands);
+    // Functions and patterns (by symbol table key) whose results may be cached.
+    public void setMemoizable(Set<String> memoizable){
+        this.memoizable = memoizable;
     }
-
+    // only the functions and patterns with these keys are generated; all type checked ones when unset
+    public void setReachable(Set<String> reachable){
+        this.reachable = reachable;
+    }
+    private boolean isReachable(String key) {
+        return reachable == null || reachable.contains(key);
+    }
+    public String getMainListing(){
+        return FrameSizer.resize(SlotAllocator.allocate(PeepholeOptimizer.optimize(mainFile.toString())));
+    }
+    // Instructions in a listing, i.e. the lines that are neither directives nor labels.
+    public static long countInstructions(String listing){
+        return listing.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith(".") && !line.endsWith(":"))
+                .count();
+    }
+    // Pointers with nothing bound are shared, one per function, by Fptr.of.
     private String createNewFptr(String name){
+        String commands = "";
+        commands += "invokestatic java/lang/invoke/MethodHandles/lookup()Ljava/lang/invoke/MethodHandles$Lookup;\n";
+        commands += "invokevirtual java/lang/invoke/MethodHandles$Lookup/lookupClass()Ljava/lang/Class;\n";
+        commands += "ldc " + "\"" + name + "\"\n";
+        commands += "invokestatic Fptr/of(Ljava/lang/Class;Ljava/lang/String;)LFptr;\n";
+        return commands;
+    }
+
+    private String createBoundFptr(String name, ArrayList<Expression> bound){
         String commands = "";
         commands += "new Fptr\n";
         commands += "dup\n";
-        commands += "aload_0\n";
+        commands += "invokestatic java/lang/invoke/MethodHandles/lookup()Ljava/lang/invoke/MethodHandles$Lookup;\n";
+        commands += "invokevirtual java/lang/invoke/MethodHandles$Lookup/lookupClass()Ljava/lang/Class;\n";
         commands += "ldc " + "\"" + name + "\"\n";
-        commands += "invokespecial Fptr/<init>(Ljava/lang/Object;Ljava/lang/String;)V\n";
+        commands += createObjectArray(bound) + "\n";
+        commands += "invokespecial Fptr/<init>(Ljava/lang/Class;Ljava/lang/String;[Ljava/lang/Object;)V\n";
         return commands;
     }
 
+    private String getMethodDescriptor(FunctionItem functionItem){
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Type argType : functionItem.getArgumentTypes())
+            descriptor.append(getType(argType));
+        return descriptor.append(')').append(getType(functionItem.getReturnType())).toString();
+    }
+
     private String createArray(int tempVar, ArrayList<Expression> elements){
         ArrayList<String> commands = new ArrayList<>();
         commands.add("new java/util/ArrayList");
@@ -163,23 +185,50 @@ public class CodeGenerator extends Visitor<String> {
         commands.add("astore " + tempVar);
         for (Expression arg : elements) {
             commands.add("aload " + tempVar);
-            Type elementType = arg.accept(typeChecker);
-
-            if (elementType instanceof ListType) {
-                commands.add("new List");
-                commands.add("dup");
-            }
-            commands.add(arg.accept(this));
-
-            if (elementType instanceof ListType) {
-                commands.add("invokespecial List/<init>(LList;)V");
-            }
+            commands.add(createElement(arg));
             commands.add("invokevirtual java/util/ArrayList/add(Ljava/lang/Object;)Z");
             commands.add("pop");
         }
         return String.join("\n", commands);
     }
 
+    private String createObjectArray(ArrayList<Expression> elements){
+        ArrayList<String> commands = new ArrayList<>();
+        commands.add("ldc " + elements.size());
+        commands.add("anewarray java/lang/Object");
+        for (int i = 0; i < elements.size(); i++) {
+            commands.add("dup");
+            commands.add("ldc " + i);
+            commands.add(createElement(elements.get(i)));
+            commands.add("aastore");
+        }
+        return String.join("\n", commands);
+    }
+
+    private String createElement(Expression element){
+        ArrayList<String> commands = new ArrayList<>();
+        Type elementType = typeChecker.getExpressionType(element);
+        commands.add(createArgument(element));
+        if (isPrimitive(elementType))
+            commands.add(box(elementType));
+        return String.join("\n", commands);
+    }
+
+    // Lists are passed by value: the callee gets its own copy, which shares storage with
+    // the caller's list until one of them is written.
+    private String createArgument(Expression argument){
+        ArrayList<String> commands = new ArrayList<>();
+        Type argumentType = typeChecker.getExpressionType(argument);
+        if (argumentType instanceof ListType listType) {
+            commands.add("new " + getListClass(listType));
+            commands.add("dup");
+        }
+        commands.add(argument.accept(this));
+        if (argumentType instanceof ListType listType)
+            commands.add("invokespecial " + getListClass(listType) + "/<init>(" + getType(listType) + ")V");
+        return String.join("\n", commands);
+    }
+
     @Override
     public String visit(Program program){
         String commands = """
@@ -187,20 +236,149 @@ public class CodeGenerator extends Visitor<String> {
                 .super java/lang/Object
                 """;
         addCommand(commands);
-        handleMainClass();
+
+        for (String funcName : this.visited) {
+            FunctionItem functionItem = findFunctionItem(funcName);
+            if (!isReachable(functionItem.getKey()))
+                continue;
+            if (isMemoizable(functionItem.getKey(), functionItem.getArgumentTypes(), functionItem.getReturnType()))
+                memoized.put(funcName, functionItem.getArgumentTypes());
+        }
+        for (String patternName : typeChecker.visitedPatterns) {
+            PatternItem patternItem = findPatternItem(patternName);
+            if (!isReachable(patternItem.getKey()))
+                continue;
+            ArrayList<Type> argTypes = new ArrayList<>(List.of(patternItem.getTargetVarType()));
+            if (isMemoizable(patternItem.getKey(), argTypes, patternItem.getReturnType()))
+                memoized.put(getPatternMethodName(patternItem), argTypes);
+        }
+        for (var comm : createMemoFields().split("\n"))
+            addCommand(comm);
 
         for(String funcName : this.visited) {
+            if (!isReachable(FunctionItem.START_KEY + funcName))
+                continue;
             try {
                 this.curFunction = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
                         funcName);
                 this.curFunction.getFunctionDeclaration().accept(this);
             } catch(ItemNotFound ignored) {}
         }
+        for (String patternName : typeChecker.visitedPatterns)
+            if (isReachable(PatternItem.START_KEY + patternName))
+                findPatternItem(patternName).getPatternDeclaration().accept(this);
 
         program.getMain().accept(this);
         return null;
     }
 
+    private FunctionItem findFunctionItem(String name) {
+        try {
+            return (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY + name);
+        } catch (ItemNotFound ignored) {
+        }
+        return null;
+    }
+
+    private PatternItem findPatternItem(String name) {
+        try {
+            return (PatternItem) SymbolTable.root.getItem(PatternItem.START_KEY + name);
+        } catch (ItemNotFound ignored) {
+        }
+        return null;
+    }
+
+    private String getPatternMethod(PatternItem patternItem) {
+        return getPatternMethodName(patternItem) + "(" + getType(patternItem.getTargetVarType()) + ")" +
+                getType(patternItem.getReturnType());
+    }
+
+    private String getPatternMethodName(PatternItem patternItem) {
+        return patternItem.getName() + "$match";
+    }
+
+    // A memoized method keeps its body in `name$impl` and `name` becomes a wrapper that
+    // consults a Memo first. Only methods of one or two int/bool arguments returning
+    // int/bool qualify, so the key packs into a long and nothing is boxed.
+    private boolean isMemoizable(String key, ArrayList<Type> argTypes, Type returnType) {
+        if (!memoizable.contains(key) || argTypes.isEmpty() || argTypes.size() > 2 || !isPrimitive(returnType))
+            return false;
+        for (Type argType : argTypes)
+            if (!isPrimitive(argType))
+                return false;
+        return true;
+    }
+
+    private String getMemoField(String methodName) {
+        return "Main/" + methodName + "$memo LMemo;";
+    }
+
+    private String createMemoFields() {
+        ArrayList<String> commands = new ArrayList<>();
+        for (String methodName : memoized.keySet())
+            commands.add(".field private static " + methodName + "$memo LMemo;");
+        if (memoized.isEmpty())
+            return String.join("\n", commands);
+        commands.add(".method static <clinit>()V");
+        commands.add(".limit stack 2");
+        commands.add(".limit locals 0");
+        for (String methodName : memoized.keySet()) {
+            commands.add("new Memo");
+            commands.add("dup");
+            commands.add("invokespecial Memo/<init>()V");
+            commands.add("putstatic " + getMemoField(methodName));
+        }
+        commands.add("return");
+        commands.add(".end method\n");
+        return String.join("\n", commands);
+    }
+
+    private String createMemoWrapper(String methodName, String descriptor) {
+        ArrayList<Type> argTypes = memoized.get(methodName);
+        int keySlot = argTypes.size();
+        int resultSlot = keySlot + 2;
+        ArrayList<String> commands = new ArrayList<>();
+        commands.add(".method public static " + methodName + descriptor);
+        commands.add(".limit stack 128");
+        commands.add(".limit locals 128");
+        commands.add("iload 0");
+        commands.add("i2l");
+        if (argTypes.size() == 2) {
+            commands.add("bipush 32");
+            commands.add("lshl");
+            commands.add("iload 1");
+            commands.add("i2l");
+            commands.add("bipush 32");
+            commands.add("lshl");
+            commands.add("bipush 32");
+            commands.add("lushr");
+            commands.add("lor");
+        }
+        commands.add("lstore " + keySlot);
+        String missL = getFreshLabel();
+        commands.add("getstatic " + getMemoField(methodName));
+        commands.add("lload " + keySlot);
+        commands.add("invokevirtual Memo/contains(J)Z");
+        commands.add("ifeq " + missL);
+        commands.add("getstatic " + getMemoField(methodName));
+        commands.add("lload " + keySlot);
+        commands.add("invokevirtual Memo/get(J)I");
+        commands.add("ireturn");
+        commands.add(missL + ":");
+        for (int i = 0; i < argTypes.size(); i++)
+            commands.add("iload " + i);
+        commands.add("invokestatic Main/" + methodName + "$impl" + descriptor);
+        commands.add("istore " + resultSlot);
+        commands.add("getstatic " + getMemoField(methodName));
+        commands.add("lload " + keySlot);
+        commands.add("iload " + resultSlot);
+        commands.add("invokevirtual Memo/put(JI)V");
+        commands.add("iload " + resultSlot);
+        commands.add("ireturn");
+        commands.add(".end method\n\n");
+        return String.join("\n", commands);
+    }
+
     private FunctionItem getFunctionItem(FunctionDeclaration functionDeclaration) {
         FunctionItem functionItem = null;
         try {
@@ -214,38 +392,34 @@ public class CodeGenerator extends Visitor<String> {
     @Override
     public String visit(FunctionDeclaration functionDeclaration){
         slots.clear();
+        firstSlot = 0;
         FunctionItem functionItem = getFunctionItem(functionDeclaration);
 
         String name = functionItem.getName();
         Type returnType = functionItem.getReturnType();
-        returnTypes.put(name, returnType);
-        ArrayList<String> argsTypeSign = new ArrayList<String>();
 
-        for (Type argType : functionItem.getArgumentTypes()) {
-            argsTypeSign.add(getType(argType));
-        }
         for (VarDeclaration arg : functionDeclaration.getArgs()) {
             slotOf(arg.getName().getName());
         }
 
+        startTailCalls(functionItem.getKey());
         ArrayList<String> bodyStmts = new ArrayList<String>();
         for (var stmt : functionDeclaration.getBody())
             bodyStmts.add(stmt.accept(this));
 
         StringBuilder commands = new StringBuilder();
-        commands.append(".method public ");
-
-        commands.append(name).append('(');
-        for (String arg : argsTypeSign)
-            commands.append(arg);
+        commands.append(".method public static ");
 
-        commands.append(')')
-                .append(getType(returnType))
+        commands.append(memoized.containsKey(name) ? name + "$impl" : name)
+                .append(getMethodDescriptor(functionItem))
                 .append('\n')
                 .append(".limit stack ")
                 .append("128\n")
                 .append(".limit locals ")
                 .append("128\n");
+        if (tailCallUsed)
+            commands.append(tailCallStartL).append(":\n");
+        tailCallKey = null;
 
         for (String stmt : bodyStmts)
             commands.append(stmt).append('\n');
@@ -254,6 +428,8 @@ public class CodeGenerator extends Visitor<String> {
                 !String.join(" ", commands.toString().split("\n")).endsWith("return"))
             commands.append("return\n");
         commands.append(".end method\n\n\n");
+        if (memoized.containsKey(name))
+            commands.append(createMemoWrapper(name, getMethodDescriptor(functionItem)));
 
         for (var comm : commands.toString().split("\n"))
             addCommand(comm);
@@ -261,16 +437,147 @@ public class CodeGenerator extends Visitor<String> {
         SymbolTable.pop();
         return null;
 }
+    // A pattern becomes a static method taking the target variable. Its cases are
+    // tried in order; a run of two or more consecutive cases whose only guard is
+    // `target == literal` on an int target is dispatched by a single switch, and any
+    // other case is a chain of guard tests. If no case matches the method throws.
+    @Override
+    public String visit(PatternDeclaration patternDeclaration){
+        slots.clear();
+        firstSlot = 0;
+        PatternItem patternItem = findPatternItem(patternDeclaration.getPatternName().getName());
+        SymbolTable.push(patternItem.getPatternSymbolTable());
+        String target = patternDeclaration.getTargetVariable().getName();
+        int targetSlot = slotOf(target);
+        ArrayList<ArrayList<Expression>> guards = patternDeclaration.getCaseConditions();
+        ArrayList<Expression> returnExps = patternDeclaration.getReturnExp();
+        String returnCommand = isPrimitive(patternItem.getReturnType()) ? "ireturn" : "areturn";
+
+        String methodName = getPatternMethodName(patternItem);
+        startTailCalls(patternItem.getKey());
+        String descriptor = getPatternMethod(patternItem).substring(methodName.length());
+        ArrayList<String> commands = new ArrayList<>();
+        commands.add(".method public static " + (memoized.containsKey(methodName) ? methodName + "$impl" : methodName) +
+                descriptor);
+        commands.add(".limit stack 128");
+        commands.add(".limit locals 128");
+        int startIndex = commands.size();
+        int caseIndex = 0;
+        while (caseIndex < returnExps.size()) {
+            TreeMap<Integer, Integer> keyCases = new TreeMap<>();
+            int runEnd = caseIndex;
+            Integer key;
+            while (runEnd < returnExps.size() &&
+                    (key = getSwitchKey(target, patternItem.getTargetVarType(), guards.get(runEnd))) != null) {
+                keyCases.putIfAbsent(key, runEnd);
+                runEnd++;
+            }
+            String nextL = getFreshLabel();
+            if (runEnd - caseIndex >= 2) {
+                Map<Integer, String> caseLabels = new HashMap<>();
+                for (Map.Entry<Integer, Integer> entry : keyCases.entrySet())
+                    caseLabels.put(entry.getValue(), getFreshLabel());
+                commands.add("iload " + targetSlot);
+                commands.add(createSwitch(keyCases, caseLabels, nextL));
+                for (Map.Entry<Integer, String> entry : new TreeMap<>(caseLabels).entrySet()) {
+                    commands.add(entry.getValue() + ":");
+                    commands.add(createPatternReturn(returnExps.get(entry.getKey()), targetSlot, returnCommand));
+                }
+                caseIndex = runEnd;
+            }
+            else {
+                for (Expression condition : guards.get(caseIndex))
+                    commands.add(createJump(condition, nextL, false));
+                commands.add(createPatternReturn(returnExps.get(caseIndex), targetSlot, returnCommand));
+                caseIndex++;
+            }
+            commands.add(nextL + ":");
+        }
+        if (tailCallUsed)
+            commands.add(startIndex, tailCallStartL + ":");
+        tailCallKey = null;
+        commands.add("new java/lang/IllegalStateException");
+        commands.add("dup");
+        commands.add("ldc \"no case of pattern " + patternItem.getName() + " matches\"");
+        commands.add("invokespecial java/lang/IllegalStateException/<init>(Ljava/lang/String;)V");
+        commands.add("athrow");
+        commands.add(".end method\n\n");
+        if (memoized.containsKey(methodName))
+            commands.add(createMemoWrapper(methodName, descriptor));
+
+        for (var comm : String.join("\n", commands).split("\n"))
+            addCommand(comm);
+        SymbolTable.pop();
+        return null;
+    }
+
+    private String createPatternReturn(Expression returnExp, int targetSlot, String returnCommand) {
+        if (returnExp instanceof MatchPatternStatement match &&
+                isTailCallTarget(PatternItem.START_KEY + match.getPatternId().getName())) {
+            PatternItem patternItem = findPatternItem(match.getPatternId().getName());
+            return createTailCall(new ArrayList<>(List.of(match.getMatchArgument())),
+                    new ArrayList<>(List.of(patternItem.getTargetVarType())), new ArrayList<>(List.of(targetSlot)));
+        }
+        return returnExp.accept(this) + "\n" + returnCommand;
+    }
+
+    // The literal a case compares an int target against, when that is its only guard.
+    private Integer getSwitchKey(String target, Type targetType, ArrayList<Expression> guard) {
+        if (!(targetType instanceof IntType) || guard.size() != 1 ||
+                !(guard.getFirst() instanceof BinaryExpression comparison) ||
+                comparison.getOperator() != BinaryOperator.EQUAL)
+            return null;
+        Expression first = comparison.getFirstOperand();
+        Expression second = comparison.getSecondOperand();
+        if (first instanceof Identifier identifier && identifier.getName().equals(target))
+            return getIntLiteral(second);
+        if (second instanceof Identifier identifier && identifier.getName().equals(target))
+            return getIntLiteral(first);
+        return null;
+    }
+
+    private Integer getIntLiteral(Expression expression) {
+        if (expression instanceof IntValue intValue)
+            return intValue.getIntVal();
+        if (expression instanceof UnaryExpression unaryExpression &&
+                unaryExpression.getOperator() == UnaryOperator.MINUS &&
+                unaryExpression.getExpression() instanceof IntValue intValue)
+            return -intValue.getIntVal();
+        return null;
+    }
+
+    // Picks tableswitch or lookupswitch with the same size/speed estimate javac uses.
+    private String createSwitch(TreeMap<Integer, Integer> keyCases, Map<Integer, String> caseLabels, String defaultL) {
+        ArrayList<String> commands = new ArrayList<>();
+        long low = keyCases.firstKey();
+        long high = keyCases.lastKey();
+        long tableCost = 4 + (high - low + 1) + 3 * 3;
+        long lookupCost = 3 + 2L * keyCases.size() + 3L * keyCases.size();
+        if (tableCost <= lookupCost) {
+            commands.add("tableswitch " + low + " " + high);
+            for (long key = low; key <= high; key++) {
+                Integer caseIndex = keyCases.get((int) key);
+                commands.add(caseIndex == null ? defaultL : caseLabels.get(caseIndex));
+            }
+        }
+        else {
+            commands.add("lookupswitch");
+            for (Map.Entry<Integer, Integer> entry : keyCases.entrySet())
+                commands.add(entry.getKey() + " : " + caseLabels.get(entry.getValue()));
+        }
+        commands.add("default : " + defaultL);
+        return String.join("\n", commands);
+    }
+
     @Override
     public String visit(MainDeclaration mainDeclaration){
         slots.clear();
+        firstSlot = 1;
 
         String commands = "";
-        commands += ".method public <init>()V\n";
+        commands += ".method public static main([Ljava/lang/String;)V\n";
         commands += ".limit stack 128\n";
         commands += ".limit locals 128\n";
-        commands += "aload_0\n";
-        commands += "invokespecial java/lang/Object/<init>()V\n";
         addCommand(commands);
         commands = "";
         for (var statement : mainDeclaration.getBody()) {
@@ -287,33 +594,42 @@ public class CodeGenerator extends Visitor<String> {
         var commands = new ArrayList<String>();
         if (accessExpression.isFunctionCall()) {
             Identifier functionName = (Identifier) accessExpression.getAccessedExpression();
-            if (!this.visited.contains(functionName.getName())) {
-                commands.add("aload " + slotOf(functionName.getName()));
-            } else {
-                commands.add(createNewFptr(functionName.getName()));
+            if (this.visited.contains(functionName.getName())) {
+                FunctionItem functionItem = findFunctionItem(functionName.getName());
+                ArrayList<VarDeclaration> declaredArgs = functionItem.getFunctionDeclaration().getArgs();
+                for (Expression arg : accessExpression.getArguments())
+                    commands.add(createArgument(arg));
+                for (int i = accessExpression.getArguments().size(); i < declaredArgs.size(); i++)
+                    commands.add(createArgument(declaredArgs.get(i).getDefaultVal()));
+                commands.add("invokestatic Main/" + functionName.getName() + getMethodDescriptor(functionItem));
+                return String.join("\n", commands);
             }
-            int tempVar = slotOf(" " + functionName.getName());
-            commands.add(createArray(tempVar, accessExpression.getArguments()));
-            commands.add("aload " + tempVar);
-            commands.add("invokevirtual Fptr/invoke(Ljava/util/ArrayList;)Ljava/lang/Object;");
-            if (returnTypes.get(functionName.getName()) == null || returnTypes.get(functionName.getName()) instanceof NoType)
+            ArrayList<Expression> arguments = new ArrayList<>(accessExpression.getArguments());
+            if (typeChecker.getExpressionType(functionName) instanceof FptrType fptrType) {
+                ArrayList<VarDeclaration> declaredArgs =
+                        findFunctionItem(fptrType.getFunctionName()).getFunctionDeclaration().getArgs();
+                for (int i = fptrType.getCapturedTypes().size() + arguments.size(); i < declaredArgs.size(); i++)
+                    arguments.add(declaredArgs.get(i).getDefaultVal());
+            }
+            commands.add("aload " + slotOf(functionName.getName()));
+            commands.add(createObjectArray(arguments));
+            commands.add("invokevirtual Fptr/invoke([Ljava/lang/Object;)Ljava/lang/Object;");
+            Type returnType = typeChecker.getExpressionType(accessExpression);
+            if (returnType == null || returnType instanceof NoType)
                 commands.add("pop");
+            else
+                commands.add(unbox(returnType));
         }
 
         else {
-            Type elementType = ((ListType) accessExpression.getAccessedExpression().accept(typeChecker)).getType();
+            ListType listType = (ListType) typeChecker.getExpressionType(accessExpression.getAccessedExpression());
             commands.add(accessExpression.getAccessedExpression().accept(this));
             if (!accessExpression.getDimentionalAccess().isEmpty()){
                 var dimAccess = accessExpression.getDimentionalAccess().get(0);
                 commands.add(dimAccess.accept(this));
-                commands.add("invokevirtual java/lang/Integer/intValue()I");
-                commands.add("invokevirtual List/getElement(I)Ljava/lang/Object;");
-                if (elementType instanceof IntType)
-                    commands.add("checkcast java/lang/Integer");
-                else if (elementType instanceof BoolType)
-                    commands.add("checkcast java/lang/Boolean");
-                else if (elementType instanceof StringType)
-                    commands.add("checkcast java/lang/String");
+                commands.add("invokevirtual " + getListClass(listType) + "/getElement(I)" + getElementDescriptor(listType));
+                if (!isPrimitive(listType.getType()))
+                    commands.add(unbox(listType.getType()));
             }
         }
         return String.join("\n", commands);
@@ -324,15 +640,18 @@ public class CodeGenerator extends Visitor<String> {
 
         int index = slotOf(assignStatement.getAssignedId().getName());
         if (assignStatement.isAccessList()) {
+            ListType listType = new ListType(typeChecker.getExpressionType(assignStatement.getAssignExpression()));
+            String listClass = getListClass(listType);
             stmts.add("aload " + index);
-            stmts.add("checkcast List");
+            stmts.add("checkcast " + listClass);
             stmts.add(assignStatement.getAccessListExpression().accept(this));
-            stmts.add("invokevirtual java/lang/Integer/intValue()I");
             handleAssignOperator(stmts, assignStatement, true);
-            stmts.add("invokevirtual List/setElement(ILjava/lang/Object;)V");
+            if (!isPrimitive(listType.getType()))
+                stmts.add(box(listType.getType()));
+            stmts.add("invokevirtual " + listClass + "/setElement(I" + getElementDescriptor(listType) + ")V");
         } else {
             handleAssignOperator(stmts, assignStatement, false);
-            stmts.add("astore " + index);
+            stmts.add(storeCommand(typeChecker.getExpressionType(assignStatement.getAssignExpression()), index));
         }
 
         return String.join("\n", stmts);
@@ -374,15 +693,19 @@ public class CodeGenerator extends Visitor<String> {
     public String visit(IfStatement ifStatement){
         SymbolTable.push(ifStatement.getSymbolTable());
         ArrayList<String> stmts = new ArrayList<>();
-        stmts.add(ifStatement.getConditions().get(0).accept(this));
-
+        if (ifStatement.getConditions().size() == 1 &&
+                ifStatement.getConditions().getFirst() instanceof BoolValue condition) {
+            for (var stmt : condition.getBool() ? ifStatement.getThenBody() : ifStatement.getElseBody())
+                stmts.add(stmt.accept(this));
+            SymbolTable.pop();
+            return String.join("\n", stmts);
+        }
         String thenL = getFreshLabel();
         String elseL = getFreshLabel();
         String exitL = getFreshLabel();
 
-        stmts.add("invokevirtual java/lang/Boolean/booleanValue()Z");
-
-        stmts.add("ifeq" + " " + elseL);
+        for (Expression condition : ifStatement.getConditions())
+            stmts.add(createJump(condition, elseL, false));
         stmts.add(thenL + ":");
         for (var stmt : ifStatement.getThenBody())
             stmts.add(stmt.accept(this));
@@ -401,47 +724,99 @@ public class CodeGenerator extends Visitor<String> {
     public String visit(PutStatement putStatement){
         ArrayList<String> stmts = new ArrayList<>();
         stmts.add("getstatic java/lang/System/out Ljava/io/PrintStream;");
-        Type argType = putStatement.getExpression().accept(typeChecker);
+        Type argType = typeChecker.getExpressionType(putStatement.getExpression());
         String commandsOfArg = putStatement.getExpression().accept(this);
         stmts.add(commandsOfArg);
         if (argType instanceof IntType) {
-            stmts.add("checkcast java/lang/Integer");
-            stmts.add("invokevirtual java/lang/Integer/intValue()I");
             stmts.add("invokevirtual java/io/PrintStream/println(I)V");
         }
         if (argType instanceof BoolType) {
-            stmts.add("checkcast java/lang/Boolean");
-            stmts.add("invokevirtual java/lang/Boolean/booleanValue()Z");
             stmts.add("invokevirtual java/io/PrintStream/println(Z)V");
         }
 
         if (argType instanceof StringType) {
-            stmts.add("checkcast java/lang/String");
             stmts.add("invokevirtual java/io/PrintStream/println(Ljava/lang/String;)V");
         }
         return String.join("\n", stmts);
     }
 
+    // A call in return position to the function or pattern being generated does not need
+    // a new frame: its arguments are stored over the parameters and control jumps back to
+    // the start of the body. In a memoized callable the jump stays inside `name$impl`, so
+    // only the result of the outermost call is cached.
+    private void startTailCalls(String key) {
+        tailCallKey = key;
+        tailCallStartL = getFreshLabel();
+        tailCallUsed = false;
+    }
+
+    private boolean isTailCallTarget(String key) {
+        return key.equals(tailCallKey);
+    }
+
+    private String createTailCall(ArrayList<Expression> arguments, ArrayList<Type> argTypes, ArrayList<Integer> argSlots) {
+        ArrayList<String> commands = new ArrayList<>();
+        for (Expression argument : arguments)
+            commands.add(createArgument(argument));
+        for (int i = arguments.size() - 1; i >= 0; i--)
+            commands.add(storeCommand(argTypes.get(i), argSlots.get(i)));
+        commands.add("goto " + tailCallStartL);
+        tailCallUsed = true;
+        return String.join("\n", commands);
+    }
+
     @Override
     public String visit(ReturnStatement returnStatement){
         ArrayList<String> stmts = new ArrayList<>();
         if (!returnStatement.hasRetExpression()) {
             return "return";
         }
+        if (returnStatement.getReturnExp() instanceof AccessExpression call && call.isFunctionCall() &&
+                call.getAccessedExpression() instanceof Identifier functionName &&
+                this.visited.contains(functionName.getName()) &&
+                isTailCallTarget(FunctionItem.START_KEY + functionName.getName())) {
+            FunctionItem functionItem = findFunctionItem(functionName.getName());
+            ArrayList<VarDeclaration> declaredArgs = functionItem.getFunctionDeclaration().getArgs();
+            ArrayList<Expression> arguments = new ArrayList<>(call.getArguments());
+            ArrayList<Integer> argSlots = new ArrayList<>();
+            for (int i = arguments.size(); i < declaredArgs.size(); i++)
+                arguments.add(declaredArgs.get(i).getDefaultVal());
+            for (VarDeclaration declaredArg : declaredArgs)
+                argSlots.add(slotOf(declaredArg.getName().getName()));
+            return createTailCall(arguments, functionItem.getArgumentTypes(), argSlots);
+        }
         stmts.add(returnStatement.getReturnExp().accept(this));
 
-        stmts.add("areturn");
+        if (isPrimitive(typeChecker.getExpressionType(returnStatement.getReturnExp())))
+            stmts.add("ireturn");
+        else
+            stmts.add("areturn");
         return String.join("\n", stmts);
     }
 
     @Override
     public String visit(ExpressionStatement expressionStatement){
-        return expressionStatement.getExpression().accept(this);
+        String commands = expressionStatement.getExpression().accept(this);
+        Type type = typeChecker.getExpressionType(expressionStatement.getExpression());
+        if (type != null && !(type instanceof NoType))
+            commands += "\npop";
+        return commands;
     }
 
     @Override
     public String visit(BinaryExpression binaryExpression) {
         ArrayList<String> stmts = new ArrayList<>();
+        if (binaryExpression.getOperator() == BinaryOperator.AND || binaryExpression.getOperator() == BinaryOperator.OR) {
+            String falseL = getFreshLabel();
+            String exitL = getFreshLabel();
+            stmts.add(createJump(binaryExpression, falseL, false));
+            stmts.add("ldc 1");
+            stmts.add("goto " + exitL);
+            stmts.add(falseL + ":");
+            stmts.add("ldc 0");
+            stmts.add(exitL + ":");
+            return String.join("\n", stmts);
+        }
         handleOperand(stmts, binaryExpression.getFirstOperand());
         handleOperand(stmts, binaryExpression.getSecondOperand());
         handleOperator(stmts, binaryExpression);
@@ -450,55 +825,92 @@ public class CodeGenerator extends Visitor<String> {
 
     private void handleOperand(ArrayList<String> stmts, Expression operand) {
         stmts.add(operand.accept(this));
-        if (operand.accept(typeChecker) instanceof IntType) {
-            stmts.add("invokevirtual java/lang/Integer/intValue()I");
-        } else if (operand.accept(typeChecker) instanceof BoolType) {
-            stmts.add("invokevirtual java/lang/Boolean/booleanValue()Z");
-        }
     }
 
     private void handleOperator(ArrayList<String> stmts, BinaryExpression binaryExpression) {
         switch (binaryExpression.getOperator()) {
             case PLUS -> {
                 stmts.add("iadd");
-                stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
             }
             case MINUS -> {
                 stmts.add("isub");
-                stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
             }
             case MULT -> {
                 stmts.add("imul");
-                stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
             }
             case DIVIDE -> {
                 stmts.add("idiv");
-                stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
             }
             case MOD ->{
                 stmts.add("irem");
-                stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
             }
-            case EQUAL -> handleComparisonOperator(stmts, "if_icmpeq");
-            case NOT_EQUAL -> handleComparisonOperator(stmts, "if_icmpne");
-            case GREATER_THAN -> handleComparisonOperator(stmts, "if_icmpgt");
-            case GREATER_EQUAL_THAN -> handleComparisonOperator(stmts, "if_icmpge");
-            case LESS_THAN -> handleComparisonOperator(stmts, "if_icmplt");
-            case LESS_EQUAL_THAN -> handleComparisonOperator(stmts, "if_icmple");
+            case EQUAL, NOT_EQUAL, GREATER_THAN, GREATER_EQUAL_THAN, LESS_THAN, LESS_EQUAL_THAN ->
+                    handleComparisonOperator(stmts, getComparisonJump(binaryExpression.getOperator(), true));
             default -> {}
         }
     }
 
+    // The if_icmp* that jumps when `operator` applied to the two ints on the stack gives `jumpWhen`.
+    private static String getComparisonJump(BinaryOperator operator, boolean jumpWhen) {
+        return switch (operator) {
+            case EQUAL -> jumpWhen ? "if_icmpeq" : "if_icmpne";
+            case NOT_EQUAL -> jumpWhen ? "if_icmpne" : "if_icmpeq";
+            case GREATER_THAN -> jumpWhen ? "if_icmpgt" : "if_icmple";
+            case GREATER_EQUAL_THAN -> jumpWhen ? "if_icmpge" : "if_icmplt";
+            case LESS_THAN -> jumpWhen ? "if_icmplt" : "if_icmpge";
+            case LESS_EQUAL_THAN -> jumpWhen ? "if_icmple" : "if_icmpgt";
+            default -> null;
+        };
+    }
+
+    // Code that jumps to `targetL` when `condition` is `jumpWhen` and falls through
+    // otherwise. A comparison becomes a single if_icmp*, ! swaps the sense of the jump,
+    // and && and || skip their second operand once the first decides, so no 0 or 1
+    // is pushed only to be tested.
+    private String createJump(Expression condition, String targetL, boolean jumpWhen) {
+        ArrayList<String> stmts = new ArrayList<>();
+        switch (condition) {
+            case BoolValue boolValue -> {
+                if (boolValue.getBool() == jumpWhen)
+                    stmts.add("goto " + targetL);
+            }
+            case UnaryExpression unaryExpression when unaryExpression.getOperator() == UnaryOperator.NOT ->
+                    stmts.add(createJump(unaryExpression.getExpression(), targetL, !jumpWhen));
+            case BinaryExpression connected when connected.getOperator() == BinaryOperator.AND ||
+                    connected.getOperator() == BinaryOperator.OR -> {
+                if ((connected.getOperator() == BinaryOperator.OR) == jumpWhen) {
+                    // either operand alone is enough to jump
+                    stmts.add(createJump(connected.getFirstOperand(), targetL, jumpWhen));
+                    stmts.add(createJump(connected.getSecondOperand(), targetL, jumpWhen));
+                }
+                else {
+                    String skipL = getFreshLabel();
+                    stmts.add(createJump(connected.getFirstOperand(), skipL, !jumpWhen));
+                    stmts.add(createJump(connected.getSecondOperand(), targetL, jumpWhen));
+                    stmts.add(skipL + ":");
+                }
+            }
+            case BinaryExpression comparison when getComparisonJump(comparison.getOperator(), jumpWhen) != null -> {
+                stmts.add(comparison.getFirstOperand().accept(this));
+                stmts.add(comparison.getSecondOperand().accept(this));
+                stmts.add(getComparisonJump(comparison.getOperator(), jumpWhen) + " " + targetL);
+            }
+            default -> {
+                stmts.add(condition.accept(this));
+                stmts.add((jumpWhen ? "ifne " : "ifeq ") + targetL);
+            }
+        }
+        return String.join("\n", stmts);
+    }
+
     private void handleComparisonOperator(ArrayList<String> stmts, String jumpInstruction) {
         String L1 = getFreshLabel();
         String exitL = getFreshLabel();
         stmts.add(jumpInstruction + " " + L1);
         stmts.add("ldc 0");
-        stmts.add("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;");
         stmts.add("goto " + exitL);
         stmts.add(L1 + ":");
         stmts.add("ldc 1");
-        stmts.add("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;");
         stmts.add(exitL + ":");
     }
 
@@ -518,19 +930,16 @@ public class CodeGenerator extends Visitor<String> {
             case INC -> {
                 stmts.add("ldc 1");
                 stmts.add("iadd");
-                stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
-                stmts.add("astore " + slotOf(((Identifier)unaryExpression.getExpression()).getName()));
+                stmts.add("dup");
+                stmts.add("istore " + slotOf(((Identifier)unaryExpression.getExpression()).getName()));
             }
             case DEC -> {
                 stmts.add("ldc -1");
                 stmts.add("iadd");
-                stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
-                stmts.add("astore " + slotOf(((Identifier)unaryExpression.getExpression()).getName()));
+                stmts.add("dup");
+                stmts.add("istore " + slotOf(((Identifier)unaryExpression.getExpression()).getName()));
             }
         }
-        Type type = unaryExpression.getExpression().accept(typeChecker);
-        if (type instanceof BoolType)
-            stmts.add("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;");
         return String.join("\n", stmts);
     }
 
@@ -544,17 +953,8 @@ public class CodeGenerator extends Visitor<String> {
         }
         String command = "";
         if (fsti == null) {
-            Type type = identifier.accept(typeChecker);
-            String typeSign = "a";
-            command += typeSign + "load " + slotOf(identifier.getName()) + "\n";
-            if (type instanceof ListType)
-                command += "checkcast List";
-            if (type instanceof StringType)
-                command += "checkcast java/lang/String";
-            if (type instanceof IntType)
-                command += "checkcast java/lang/Integer";
-            if (type instanceof BoolType)
-                command += "checkcast java/lang/Boolean";
+            Type type = typeChecker.getExpressionType(identifier);
+            command += loadCommand(type, slotOf(identifier.getName()));
         } else {
             command += createNewFptr(identifier.getName());
         }
@@ -577,35 +977,134 @@ public class CodeGenerator extends Visitor<String> {
 
         stmts.add("goto " + startL);
         stmts.add(exitL + ":");
+        loopStartLabels.pop();
+        loopEndLabels.pop();
         SymbolTable.pop();
         return String.join("\n",stmts);
     }
+
+    // Ranges are walked with an int counter in a hidden slot: `(a .. b)` counts from a to b
+    // inclusive, a list literal is indexed as an Object[] and a list variable through
+    // List.getElement, so no list or iterator is created for the loop itself. The
+    // iterator variable is assigned from the counter at the top of every iteration.
     @Override
-    public String visit(BreakStatement breakStatement){
+    public String visit(ForStatement forStatement){
+        SymbolTable.push(forStatement.getSymbolTable());
+        RangeExpression range = forStatement.getRangeExpression();
+        ArrayList<Expression> rangeExpressions = range.getRangeExpressions();
+        Type iteratorType = typeChecker.getExpressionType(range);
+        int iteratorSlot = slotOf(forStatement.getIteratorId().getName());
+        int counterSlot = slotOf(" " + forStatement.hashCode() + " counter");
+        int boundSlot = slotOf(" " + forStatement.hashCode() + " bound");
         ArrayList<String> stmts = new ArrayList<>();
-        stmts.add("goto " + loopEndLabels.peek());
-        loopEndLabels.pop();
+
+        String startL = getFreshLabel();
+        String nextL = getFreshLabel();
+        String exitL = getFreshLabel();
+        loopStartLabels.push(nextL);
+        loopEndLabels.push(exitL);
+
+        if (range.getRangeType() == RangeType.DOUBLE_DOT) {
+            stmts.add(rangeExpressions.getFirst().accept(this));
+            stmts.add("istore " + counterSlot);
+            stmts.add(rangeExpressions.getLast().accept(this));
+            stmts.add("istore " + boundSlot);
+            stmts.add("iload " + counterSlot);
+            stmts.add("iload " + boundSlot);
+            stmts.add("if_icmpgt " + exitL);
+            stmts.add(startL + ":");
+            stmts.add("iload " + counterSlot);
+            stmts.add("istore " + iteratorSlot);
+        } else {
+            if (range.getRangeType() == RangeType.LIST)
+                stmts.add(createObjectArray(rangeExpressions));
+            else
+                stmts.add(rangeExpressions.getFirst().accept(this));
+            stmts.add("astore " + boundSlot);
+            stmts.add("iconst_0");
+            stmts.add("istore " + counterSlot);
+            stmts.add(startL + ":");
+            stmts.add("iload " + counterSlot);
+            stmts.add("aload " + boundSlot);
+            if (range.getRangeType() == RangeType.LIST) {
+                stmts.add("arraylength");
+                stmts.add("if_icmpge " + exitL);
+                stmts.add("aload " + boundSlot);
+                stmts.add("iload " + counterSlot);
+                stmts.add("aaload");
+                stmts.add(unbox(iteratorType));
+            } else {
+                ListType listType = (ListType) typeChecker.getExpressionType(rangeExpressions.getFirst());
+                stmts.add("invokevirtual " + getListClass(listType) + "/getSize()I");
+                stmts.add("if_icmpge " + exitL);
+                stmts.add("aload " + boundSlot);
+                stmts.add("iload " + counterSlot);
+                stmts.add("invokevirtual " + getListClass(listType) + "/getElement(I)" + getElementDescriptor(listType));
+                if (!isPrimitive(listType.getType()))
+                    stmts.add(unbox(iteratorType));
+            }
+            stmts.add(storeCommand(iteratorType, iteratorSlot));
+        }
+
+        for (Statement statement : forStatement.getLoopBodyStmts())
+            stmts.add(statement.accept(this));
+
+        stmts.add(nextL + ":");
+        if (range.getRangeType() == RangeType.DOUBLE_DOT) {
+            // Testing before the increment keeps a bound of Integer.MAX_VALUE from wrapping.
+            stmts.add("iload " + counterSlot);
+            stmts.add("iload " + boundSlot);
+            stmts.add("if_icmpge " + exitL);
+        }
+        stmts.add("iinc " + counterSlot + " 1");
+        stmts.add("goto " + startL);
+        stmts.add(exitL + ":");
         loopStartLabels.pop();
+        loopEndLabels.pop();
+        SymbolTable.pop();
         return String.join("\n", stmts);
     }
+
+    // Every condition of `break if` and `next if` has to hold for the jump to be taken.
+    private String createConditionalJump(ArrayList<Expression> conditions, String targetL) {
+        if (conditions.isEmpty())
+            return "goto " + targetL;
+        ArrayList<String> stmts = new ArrayList<>();
+        String skipL = getFreshLabel();
+        for (Expression condition : conditions.subList(0, conditions.size() - 1))
+            stmts.add(createJump(condition, skipL, false));
+        stmts.add(createJump(conditions.getLast(), targetL, true));
+        stmts.add(skipL + ":");
+        return String.join("\n", stmts);
+    }
+
+    @Override
+    public String visit(BreakStatement breakStatement){
+        return createConditionalJump(breakStatement.getConditions(), loopEndLabels.peek());
+    }
     @Override
     public String visit(NextStatement nextStatement){
-        ArrayList <String> stmts = new ArrayList<>();
-        stmts.add("goto " + loopStartLabels.peek());
+        return createConditionalJump(nextStatement.getConditions(), loopStartLabels.peek());
+    }
+    @Override
+    public String visit(MatchPatternStatement matchPatternStatement){
+        PatternItem patternItem = findPatternItem(matchPatternStatement.getPatternId().getName());
+        ArrayList<String> stmts = new ArrayList<>();
+        stmts.add(matchPatternStatement.getMatchArgument().accept(this));
+        stmts.add("invokestatic Main/" + getPatternMethod(patternItem));
         return String.join("\n", stmts);
     }
     @Override
     public String visit(LenStatement lenStatement){
-        Type type = lenStatement.getExpression().accept(typeChecker);
+        Type type = typeChecker.getExpressionType(lenStatement.getExpression());
         ArrayList<String> stmts = new ArrayList<>();
         stmts.add(lenStatement.getExpression().accept(this));
         if (type instanceof StringType) {
             stmts.add("invokevirtual java/lang/String/length()I");
         }
-        if (type instanceof ListType) {
-            stmts.add("invokevirtual List/getSize()I");
+        if (type instanceof ListType listType) {
+            stmts.add("invokevirtual " + getListClass(listType) + "/getSize()I");
         }
-        stmts.add("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
         return String.join("\n", stmts);
     }
 
@@ -625,15 +1124,61 @@ public class CodeGenerator extends Visitor<String> {
         return String.join("\n", stmts);
     }
 
+    // push, the append operator and chomp have no code generation. Falling back on the
+    // base visitor would leave a hole in the listing that only fails in the assembler,
+    // so they are refused by name here instead.
+    @Override
+    public String visit(PushStatement pushStatement) {
+        throw unsupported("push", pushStatement.getLine());
+    }
+
+    @Override
+    public String visit(AppendExpression appendExpression) {
+        throw unsupported("the append operator", appendExpression.getLine());
+    }
+
+    @Override
+    public String visit(ChompStatement chompStatement) {
+        throw unsupported("chomp", chompStatement.getLine());
+    }
+
+    private static UnsupportedOperationException unsupported(String construct, int line) {
+        return new UnsupportedOperationException("Line:" + line + "-> " + construct + " is not supported by code generation");
+    }
 
     @Override
     public String visit(FunctionPointer functionPointer){
-        FptrType fptr = (FptrType) functionPointer.accept(typeChecker);
+        FptrType fptr = (FptrType) typeChecker.getExpressionType(functionPointer);
         return createNewFptr(fptr.getFunctionName());
     }
+
+    // A lambda was turned into a static method by the type checker. The values of the
+    // variables it captures are copied into the pointer when the lambda is created; a
+    // lambda capturing nothing is allocated once and reused.
+    @Override
+    public String visit(LambdaExpression lambdaExpression){
+        FptrType fptr = (FptrType) typeChecker.getExpressionType(lambdaExpression);
+        if (lambdaExpression.getCapturedVariables().isEmpty())
+            return createNewFptr(fptr.getFunctionName());
+        return createBoundFptr(fptr.getFunctionName(), new ArrayList<>(lambdaExpression.getCapturedVariables()));
+    }
     @Override
     public String visit(ListValue listValue){
         ArrayList<String> stmts = new ArrayList<>();
+        ListType listType = (ListType) typeChecker.getExpressionType(listValue);
+        if (isPrimitive(listType.getType())) {
+            String listClass = getListClass(listType);
+            stmts.add("new " + listClass);
+            stmts.add("dup");
+            stmts.add("ldc " + listValue.getElements().size());
+            stmts.add("invokespecial " + listClass + "/<init>(I)V");
+            for (Expression element : listValue.getElements()) {
+                stmts.add("dup");
+                stmts.add(element.accept(this));
+                stmts.add("invokevirtual " + listClass + "/addElement(" + getElementDescriptor(listType) + ")V");
+            }
+            return String.join("\n", stmts);
+        }
         int tempvar = slotOf(" " + listValue.hashCode());
         stmts.add(createArray(tempvar, listValue.getElements()));
         stmts.add("new List");
@@ -645,13 +1190,11 @@ public class CodeGenerator extends Visitor<String> {
     }
     @Override
     public String visit(IntValue intValue){
-        return "ldc " + intValue.getIntVal() + "\n"
-                + "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;";
+        return "ldc " + intValue.getIntVal();
     }
     @Override
     public String visit(BoolValue boolValue){
-        return "ldc " + (boolValue.getBool() ? "1" : "0") + "\n"
-                + "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;";
+        return "ldc " + (boolValue.getBool() ? "1" : "0");
     }
     @Override
     public String visit(StringValue stringValue){
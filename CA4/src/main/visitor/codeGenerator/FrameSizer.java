@@ -0,0 +1,121 @@
+package main.visitor.codeGenerator;
+
+import main.visitor.codeGenerator.MethodListing.Instruction;
+
+import java.util.*;
+
+import static main.visitor.codeGenerator.MethodListing.*;
+
+// Replaces the `.limit stack` and `.limit locals` of every method in a Jasmin listing
+// with the sizes its code actually needs. Locals are the argument words plus every
+// slot an instruction touches; the operand stack depth is followed along every path
+// from the method entry through jumps and switches. A method using an instruction
+// this class does not know keeps the limits it was generated with.
+public class FrameSizer {
+    private static final Map<String, Integer> STACK_EFFECTS = new HashMap<>();
+
+    static {
+        for (String opcode : List.of("iconst_m1", "iconst_0", "iconst_1", "iconst_2", "iconst_3", "iconst_4",
+                "iconst_5", "aconst_null", "bipush", "sipush", "ldc", "ldc_w", "new", "dup", "dup_x1", "i2l"))
+            STACK_EFFECTS.put(opcode, 1);
+        for (String opcode : List.of("ldc2_w", "dup2"))
+            STACK_EFFECTS.put(opcode, 2);
+        for (String opcode : List.of("swap", "ineg", "lneg", "checkcast", "instanceof", "arraylength",
+                "anewarray", "newarray", "iinc", "nop"))
+            STACK_EFFECTS.put(opcode, 0);
+        for (String opcode : List.of("pop", "iadd", "isub", "imul", "idiv", "irem", "iand", "ior", "ixor",
+                "ishl", "ishr", "iushr", "lshl", "lshr", "lushr", "l2i", "aaload", "iaload", "baload"))
+            STACK_EFFECTS.put(opcode, -1);
+        for (String opcode : List.of("pop2", "ladd", "lsub", "lmul", "ldiv", "lrem", "land", "lor", "lxor"))
+            STACK_EFFECTS.put(opcode, -2);
+        for (String opcode : List.of("aastore", "iastore", "bastore", "lcmp"))
+            STACK_EFFECTS.put(opcode, -3);
+    }
+
+    public static String resize(String listing) {
+        return MethodListing.rewrite(listing, FrameSizer::resizeMethod);
+    }
+
+    private static List<String> resizeMethod(MethodListing method) {
+        int maxLocals = method.argumentWords;
+        for (Instruction instruction : method.instructions)
+            if (accessesLocal(instruction))
+                maxLocals = Math.max(maxLocals, localSlot(instruction) + localWidth(instruction));
+
+        int maxStack = maxStack(method);
+        if (maxStack < 0)
+            return method.lines;
+        List<String> resized = new ArrayList<>();
+        for (String line : method.lines) {
+            if (line.trim().startsWith(".limit stack"))
+                resized.add(".limit stack " + maxStack);
+            else if (line.trim().startsWith(".limit locals"))
+                resized.add(".limit locals " + maxLocals);
+            else
+                resized.add(line);
+        }
+        return resized;
+    }
+
+    // Depth before each instruction, found by a walk over the control flow graph;
+    // -1 when some instruction has an unknown stack effect.
+    private static int maxStack(MethodListing method) {
+        int[] depths = new int[method.instructions.size()];
+        Arrays.fill(depths, -1);
+        Deque<Integer> pending = new ArrayDeque<>();
+        if (!method.instructions.isEmpty()) {
+            depths[0] = 0;
+            pending.push(0);
+        }
+        int maxStack = 0;
+        while (!pending.isEmpty()) {
+            int index = pending.pop();
+            Integer effect = stackEffect(method.instructions.get(index));
+            if (effect == null)
+                return -1;
+            int depth = depths[index] + effect;
+            maxStack = Math.max(maxStack, Math.max(depth, depths[index]));
+            for (int successor : method.successors(index)) {
+                if (depths[successor] >= 0)
+                    continue;
+                depths[successor] = depth;
+                pending.push(successor);
+            }
+        }
+        return maxStack;
+    }
+
+    private static Integer stackEffect(Instruction instruction) {
+        String opcode = instruction.opcode();
+        String operand = instruction.operand();
+        if (STACK_EFFECTS.containsKey(opcode))
+            return STACK_EFFECTS.get(opcode);
+        if (BRANCHES_POP_ONE.contains(opcode) || opcode.endsWith("switch"))
+            return -1;
+        if (BRANCHES_POP_TWO.contains(opcode))
+            return -2;
+        if (opcode.equals("goto") || EXITS.contains(opcode))
+            return 0;
+        if (opcode.matches("[ilfda]load(_\\d)?"))
+            return localWidth(instruction);
+        if (opcode.matches("[ilfda]store(_\\d)?"))
+            return -localWidth(instruction);
+        switch (opcode) {
+            case "getstatic":
+                return countWords(operand.substring(operand.lastIndexOf(' ') + 1));
+            case "putstatic":
+                return -countWords(operand.substring(operand.lastIndexOf(' ') + 1));
+            case "getfield":
+                return countWords(operand.substring(operand.lastIndexOf(' ') + 1)) - 1;
+            case "putfield":
+                return -countWords(operand.substring(operand.lastIndexOf(' ') + 1)) - 1;
+            case "invokestatic", "invokevirtual", "invokespecial", "invokeinterface":
+                String descriptor = operand.substring(operand.indexOf('('));
+                int effect = countWords(descriptor.substring(descriptor.indexOf(')') + 1)) -
+                        countWords(descriptor.substring(1, descriptor.indexOf(')')));
+                return opcode.equals("invokestatic") ? effect : effect - 1;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package main.visitor.codeGenerator;
+
+import java.util.Map;
+
+public class GeneratedClassLoader extends ClassLoader {
+    private final Map<String, byte[]> classes;
+
+    public GeneratedClassLoader(Map<String, byte[]> classes) {
+        this(classes, GeneratedClassLoader.class.getClassLoader());
+    }
+
+    public GeneratedClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+        super(parent);
+        this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] classBytes = classes.get(name);
+        if (classBytes == null)
+            throw new ClassNotFoundException(name);
+        return defineClass(name, classBytes, 0, classBytes.length);
+    }
+}
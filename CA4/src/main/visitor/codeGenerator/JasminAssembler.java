@@ -0,0 +1,26 @@
+package main.visitor.codeGenerator;
+
+import jasmin.ClassFile;
+
+import java.io.*;
+
+public class JasminAssembler {
+    public static byte[] assemble(String listing, String sourceName) throws IOException {
+        ClassFile classFile = new ClassFile();
+        try {
+            classFile.readJasmin(new StringReader(listing), sourceName, false);
+        } catch (Exception e) {
+            throw new IOException(sourceName + ": " + e.getMessage(), e);
+        }
+        if (classFile.errorCount() > 0)
+            throw new IOException(sourceName + ": " + classFile.errorCount() + " assembly error(s)");
+
+        ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+        try {
+            classFile.write(classBytes);
+        } catch (jas.jasError e) {
+            throw new IOException(sourceName + ": " + e.getMessage(), e);
+        }
+        return classBytes.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+package main.visitor.codeGenerator;
+
+import java.util.*;
+import java.util.function.Function;
+
+// One method of a Jasmin listing: its lines, the instructions among them and the
+// control flow between those instructions. Passes over the generated listing, such
+// as FrameSizer and SlotAllocator, rewrite it one method at a time through this class.
+class MethodListing {
+    record Instruction(int line, String opcode, String operand, List<String> targets) {}
+
+    static final Set<String> BRANCHES_POP_ONE = Set.of(
+            "ifeq", "ifne", "iflt", "ifge", "ifgt", "ifle", "ifnull", "ifnonnull");
+    static final Set<String> BRANCHES_POP_TWO = Set.of(
+            "if_icmpeq", "if_icmpne", "if_icmplt", "if_icmpge", "if_icmpgt", "if_icmple", "if_acmpeq", "if_acmpne");
+    static final Set<String> EXITS = Set.of("return", "ireturn", "lreturn", "areturn", "athrow");
+
+    final List<String> lines;
+    final List<Instruction> instructions = new ArrayList<>();
+    final Map<String, Integer> labels = new HashMap<>();
+    final int argumentWords;
+
+    MethodListing(List<String> lines) {
+        this.lines = lines;
+        String header = lines.getFirst().trim();
+        String descriptor = header.substring(header.indexOf('('));
+        argumentWords = countWords(descriptor.substring(1, descriptor.indexOf(')'))) +
+                (header.contains(" static ") ? 0 : 1);
+
+        Instruction switchInstruction = null;
+        for (int line = 1; line < lines.size() - 1; line++) {
+            String text = lines.get(line).trim();
+            if (text.isEmpty() || text.startsWith("."))
+                continue;
+            // switch entries are "label" (tableswitch) or "key : label", ending with "default : label"
+            if (switchInstruction != null) {
+                switchInstruction.targets().add(text.substring(text.indexOf(':') + 1).trim());
+                if (text.startsWith("default"))
+                    switchInstruction = null;
+                continue;
+            }
+            if (text.endsWith(":")) {
+                labels.put(text.substring(0, text.length() - 1), instructions.size());
+                continue;
+            }
+            String[] parts = text.split("\\s+", 2);
+            Instruction instruction = new Instruction(line, parts[0], parts.length > 1 ? parts[1] : "",
+                    new ArrayList<>());
+            if (instruction.opcode().endsWith("switch"))
+                switchInstruction = instruction;
+            else if (instruction.opcode().equals("goto") || BRANCHES_POP_ONE.contains(instruction.opcode()) ||
+                    BRANCHES_POP_TWO.contains(instruction.opcode()))
+                instruction.targets().add(instruction.operand());
+            instructions.add(instruction);
+        }
+    }
+
+    // Runs `pass` on every method of the listing and keeps the lines outside methods.
+    static String rewrite(String listing, Function<MethodListing, List<String>> pass) {
+        StringBuilder rewritten = new StringBuilder();
+        List<String> method = null;
+        for (String line : listing.split("\n", -1)) {
+            if (method == null) {
+                if (line.trim().startsWith(".method"))
+                    method = new ArrayList<>(List.of(line));
+                else
+                    rewritten.append(line).append('\n');
+                continue;
+            }
+            method.add(line);
+            if (line.trim().startsWith(".end method")) {
+                for (String methodLine : pass.apply(new MethodListing(method)))
+                    rewritten.append(methodLine).append('\n');
+                method = null;
+            }
+        }
+        if (method != null)
+            for (String methodLine : method)
+                rewritten.append(methodLine).append('\n');
+        // split keeps the text after the last newline as a final element
+        return rewritten.substring(0, rewritten.length() - 1);
+    }
+
+    // Indices of the instructions that may run after the one at `index`; a target
+    // without a following instruction is left out.
+    List<Integer> successors(int index) {
+        Instruction instruction = instructions.get(index);
+        List<Integer> successors = new ArrayList<>();
+        for (String target : instruction.targets()) {
+            Integer successor = labels.get(target);
+            if (successor != null && successor < instructions.size())
+                successors.add(successor);
+        }
+        if (!instruction.opcode().equals("goto") && !EXITS.contains(instruction.opcode()) &&
+                !instruction.opcode().endsWith("switch") && index + 1 < instructions.size())
+            successors.add(index + 1);
+        return successors;
+    }
+
+    static boolean accessesLocal(Instruction instruction) {
+        return instruction.opcode().matches("[ilfda](load|store)(_\\d)?") || instruction.opcode().equals("iinc");
+    }
+
+    static int localSlot(Instruction instruction) {
+        String opcode = instruction.opcode();
+        return opcode.contains("_") ? opcode.charAt(opcode.length() - 1) - '0' :
+                Integer.parseInt(instruction.operand().split("\\s+")[0]);
+    }
+
+    // Number of slots the local takes: two for long and double.
+    static int localWidth(Instruction instruction) {
+        return instruction.opcode().startsWith("l") || instruction.opcode().startsWith("d") ? 2 : 1;
+    }
+
+    // Words taken by a sequence of field descriptors, e.g. "ILList;J" is four.
+    static int countWords(String descriptors) {
+        int words = 0;
+        for (int i = 0; i < descriptors.length(); i++) {
+            char type = descriptors.charAt(i);
+            boolean array = type == '[';
+            while (type == '[')
+                type = descriptors.charAt(++i);
+            if (type == 'L')
+                i = descriptors.indexOf(';', i);
+            if (type == 'V')
+                continue;
+            words += !array && (type == 'J' || type == 'D') ? 2 : 1;
+        }
+        return words;
+    }
+}
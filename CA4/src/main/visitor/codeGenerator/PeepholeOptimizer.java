@@ -0,0 +1,336 @@
+package main.visitor.codeGenerator;
+
+import main.visitor.codeGenerator.MethodListing.Instruction;
+
+import java.util.*;
+
+import static main.visitor.codeGenerator.MethodListing.*;
+
+// Replaces short instruction sequences of a Jasmin listing with cheaper ones that
+// leave the same values on the stack, one method at a time. Each rule in RULES looks
+// at the instruction at an index and either rewrites it together with the ones that
+// follow, returning how many it consumed, or returns 0. The rules are swept over a
+// method until none applies. A new rewrite is added by appending a rule to RULES.
+public class PeepholeOptimizer {
+    interface Rule {
+        int apply(Sweep sweep, int index);
+    }
+
+    private static final List<Rule> RULES = List.of(
+            PeepholeOptimizer::removeUnreachable,
+            PeepholeOptimizer::removeJumpToNext,
+            PeepholeOptimizer::fuseMaterializedCondition,
+            PeepholeOptimizer::foldConstantBranch,
+            PeepholeOptimizer::removeBoxing,
+            PeepholeOptimizer::removeRedundantCheckcast,
+            PeepholeOptimizer::shortenIntConstant);
+
+    private static final Map<String, String> NEGATED_BRANCHES = new HashMap<>();
+
+    static {
+        String[][] pairs = {{"eq", "ne"}, {"lt", "ge"}, {"gt", "le"}};
+        for (String[] pair : pairs) {
+            for (String prefix : List.of("if", "if_icmp")) {
+                NEGATED_BRANCHES.put(prefix + pair[0], prefix + pair[1]);
+                NEGATED_BRANCHES.put(prefix + pair[1], prefix + pair[0]);
+            }
+        }
+        NEGATED_BRANCHES.put("ifnull", "ifnonnull");
+        NEGATED_BRANCHES.put("ifnonnull", "ifnull");
+        NEGATED_BRANCHES.put("if_acmpeq", "if_acmpne");
+        NEGATED_BRANCHES.put("if_acmpne", "if_acmpeq");
+    }
+
+    public static String optimize(String listing) {
+        return MethodListing.rewrite(listing, PeepholeOptimizer::optimizeMethod);
+    }
+
+    private static List<String> optimizeMethod(MethodListing method) {
+        while (true) {
+            Sweep sweep = new Sweep(method);
+            boolean changed = sweep.removeUnusedLabels();
+            int index = 0;
+            while (index < method.instructions.size()) {
+                int consumed = 0;
+                for (Rule rule : RULES) {
+                    consumed = rule.apply(sweep, index);
+                    if (consumed > 0)
+                        break;
+                }
+                changed |= consumed > 0;
+                index += Math.max(consumed, 1);
+            }
+            if (!changed)
+                return method.lines;
+            method = new MethodListing(sweep.result());
+        }
+    }
+
+    // One pass of the rules over a method. Queries answer for the method as it was at
+    // the start of the sweep; edits are collected and applied by result().
+    static class Sweep {
+        final MethodListing method;
+        private final List<String> lines;
+        private final Map<String, Integer> references = new HashMap<>();
+        private final Map<Integer, String> localClasses;
+
+        Sweep(MethodListing method) {
+            this.method = method;
+            this.lines = new ArrayList<>(method.lines);
+            for (Instruction instruction : method.instructions)
+                for (String target : instruction.targets())
+                    references.merge(target, 1, Integer::sum);
+            this.localClasses = findLocalClasses();
+        }
+
+        Instruction at(int index) {
+            return index < method.instructions.size() ? method.instructions.get(index) : null;
+        }
+
+        boolean is(int index, String opcode, String operand) {
+            Instruction instruction = at(index);
+            return instruction != null && instruction.opcode().equals(opcode) &&
+                    (operand == null || instruction.operand().equals(operand));
+        }
+
+        // The value of an int constant instruction, or null.
+        Integer intConstant(int index) {
+            Instruction instruction = at(index);
+            if (instruction == null)
+                return null;
+            if (instruction.opcode().equals("iconst_m1"))
+                return -1;
+            if (instruction.opcode().matches("iconst_[0-5]"))
+                return instruction.opcode().charAt(7) - '0';
+            if (instruction.opcode().matches("ldc|bipush|sipush") && instruction.operand().matches("-?\\d+"))
+                return Integer.parseInt(instruction.operand());
+            return null;
+        }
+
+        List<String> labelsBefore(int index) {
+            List<String> labels = new ArrayList<>();
+            for (Map.Entry<String, Integer> label : method.labels.entrySet())
+                if (label.getValue() == index)
+                    labels.add(label.getKey());
+            return labels;
+        }
+
+        int references(String label) {
+            return references.getOrDefault(label, 0);
+        }
+
+        // The class of the reference the instruction at `index` pushes, when it is
+        // known from the instruction alone or from every store to the loaded local.
+        String pushedClass(int index) {
+            return pushedClass(at(index), localClasses);
+        }
+
+        void replace(int index, String text) {
+            String line = lines.get(at(index).line());
+            lines.set(at(index).line(), line.substring(0, line.length() - line.stripLeading().length()) + text);
+        }
+
+        void delete(int index) {
+            lines.set(at(index).line(), null);
+        }
+
+        // Labels nothing jumps to only keep the rules from seeing instructions as adjacent.
+        boolean removeUnusedLabels() {
+            boolean removed = false;
+            for (String label : method.labels.keySet()) {
+                if (references(label) == 0) {
+                    deleteLabel(label);
+                    removed = true;
+                }
+            }
+            return removed;
+        }
+
+        void deleteLabel(String label) {
+            for (int line = 0; line < lines.size(); line++)
+                if (lines.get(line) != null && lines.get(line).trim().equals(label + ":"))
+                    lines.set(line, null);
+        }
+
+        List<String> result() {
+            List<String> result = new ArrayList<>();
+            for (String line : lines)
+                if (line != null)
+                    result.add(line);
+            return result;
+        }
+
+        // Slots whose every definition, an argument of the method or an astore, holds the
+        // same class. Loads of a local are resolved through the classes found so far, so
+        // the search is repeated until nothing is added.
+        private Map<Integer, String> findLocalClasses() {
+            Map<Integer, String> classes = new HashMap<>();
+            Map<Integer, String> found = null;
+            while (!classes.equals(found)) {
+                found = classes;
+                Map<Integer, String> stored = argumentClasses();
+                Set<Integer> mixed = new HashSet<>();
+                for (int index = 0; index < method.instructions.size(); index++) {
+                    Instruction instruction = method.instructions.get(index);
+                    if (!instruction.opcode().matches("astore(_\\d)?"))
+                        continue;
+                    int slot = localSlot(instruction);
+                    // a label before the store may bring a value pushed elsewhere
+                    String pushed = index == 0 || !labelsBefore(index).isEmpty() ? null :
+                            pushedClass(method.instructions.get(index - 1), found);
+                    if (pushed == null || stored.containsKey(slot) && !stored.get(slot).equals(pushed))
+                        mixed.add(slot);
+                    else
+                        stored.put(slot, pushed);
+                }
+                classes = new HashMap<>(stored);
+                classes.keySet().removeAll(mixed);
+            }
+            return classes;
+        }
+
+        private static String pushedClass(Instruction instruction, Map<Integer, String> locals) {
+            String opcode = instruction.opcode();
+            String operand = instruction.operand();
+            if (opcode.equals("checkcast"))
+                return operand;
+            if (opcode.startsWith("invoke"))
+                return descriptorClass(operand.substring(operand.indexOf(')') + 1));
+            if (opcode.matches("get(static|field)"))
+                return descriptorClass(operand.substring(operand.lastIndexOf(' ') + 1));
+            if (opcode.matches("aload(_\\d)?"))
+                return locals.get(localSlot(instruction));
+            return null;
+        }
+
+        private Map<Integer, String> argumentClasses() {
+            Map<Integer, String> classes = new HashMap<>();
+            String header = method.lines.getFirst().trim();
+            String arguments = header.substring(header.indexOf('(') + 1, header.indexOf(')'));
+            int slot = header.contains(" static ") ? 0 : 1;
+            for (int i = 0; i < arguments.length(); i++) {
+                int start = i;
+                while (arguments.charAt(i) == '[')
+                    i++;
+                if (arguments.charAt(i) == 'L')
+                    i = arguments.indexOf(';', i);
+                String argument = arguments.substring(start, i + 1);
+                String argumentClass = descriptorClass(argument);
+                if (argumentClass != null)
+                    classes.put(slot, argumentClass);
+                slot += countWords(argument);
+            }
+            return classes;
+        }
+
+        // "LIntList;" is IntList and an array descriptor is used as it is; primitives have none.
+        private static String descriptorClass(String descriptor) {
+            if (descriptor.startsWith("L"))
+                return descriptor.substring(1, descriptor.length() - 1);
+            return descriptor.startsWith("[") ? descriptor : null;
+        }
+    }
+
+    // Instructions after a goto, return or athrow run only when something jumps to them.
+    private static int removeUnreachable(Sweep sweep, int index) {
+        Instruction instruction = sweep.at(index);
+        if (!instruction.opcode().equals("goto") && !EXITS.contains(instruction.opcode()))
+            return 0;
+        int end = index + 1;
+        while (sweep.at(end) != null && sweep.labelsBefore(end).isEmpty() && !sweep.at(end).opcode().endsWith("switch"))
+            sweep.delete(end++);
+        return end - index > 1 ? end - index : 0;
+    }
+
+    private static int removeJumpToNext(Sweep sweep, int index) {
+        Instruction instruction = sweep.at(index);
+        if (!instruction.opcode().equals("goto") || !sweep.labelsBefore(index + 1).contains(instruction.operand()))
+            return 0;
+        sweep.delete(index);
+        return 1;
+    }
+
+    // A comparison that pushes 0 or 1 only to be tested by the next branch:
+    //     if_icmpgt L1; iconst_0; goto L2; L1: iconst_1; L2: ifeq L3
+    // becomes a single if_icmple L3.
+    private static int fuseMaterializedCondition(Sweep sweep, int index) {
+        Instruction comparison = sweep.at(index);
+        if (!NEGATED_BRANCHES.containsKey(comparison.opcode()) ||
+                !Integer.valueOf(0).equals(sweep.intConstant(index + 1)) || !sweep.is(index + 2, "goto", null) ||
+                !Integer.valueOf(1).equals(sweep.intConstant(index + 3)) ||
+                !sweep.is(index + 4, "ifeq", null) && !sweep.is(index + 4, "ifne", null))
+            return 0;
+        String trueLabel = comparison.operand();
+        String joinLabel = sweep.at(index + 2).operand();
+        if (!sweep.labelsBefore(index + 1).isEmpty() || !sweep.labelsBefore(index + 2).isEmpty() ||
+                !sweep.labelsBefore(index + 3).equals(List.of(trueLabel)) ||
+                !sweep.labelsBefore(index + 4).equals(List.of(joinLabel)) ||
+                sweep.references(trueLabel) != 1 || sweep.references(joinLabel) != 1)
+            return 0;
+        String opcode = sweep.is(index + 4, "ifeq", null) ? NEGATED_BRANCHES.get(comparison.opcode()) :
+                comparison.opcode();
+        sweep.replace(index, opcode + " " + sweep.at(index + 4).operand());
+        for (int i = index + 1; i <= index + 4; i++)
+            sweep.delete(i);
+        sweep.deleteLabel(trueLabel);
+        sweep.deleteLabel(joinLabel);
+        return 5;
+    }
+
+    // A branch on a constant either always jumps or never does.
+    private static int foldConstantBranch(Sweep sweep, int index) {
+        Integer value = sweep.intConstant(index);
+        if (value == null || !sweep.labelsBefore(index + 1).isEmpty() ||
+                !sweep.is(index + 1, "ifeq", null) && !sweep.is(index + 1, "ifne", null))
+            return 0;
+        boolean jumps = sweep.is(index + 1, "ifeq", null) == (value == 0);
+        if (jumps)
+            sweep.replace(index, "goto " + sweep.at(index + 1).operand());
+        else
+            sweep.delete(index);
+        sweep.delete(index + 1);
+        return 2;
+    }
+
+    // Boxing a primitive only to unbox it again.
+    private static int removeBoxing(Sweep sweep, int index) {
+        for (String[] box : new String[][]{{"java/lang/Integer", "I", "intValue"}, {"java/lang/Boolean", "Z", "booleanValue"}}) {
+            if (sweep.is(index, "invokestatic", box[0] + "/valueOf(" + box[1] + ")L" + box[0] + ";") &&
+                    sweep.labelsBefore(index + 1).isEmpty() &&
+                    sweep.is(index + 1, "invokevirtual", box[0] + "/" + box[2] + "()" + box[1])) {
+                sweep.delete(index);
+                sweep.delete(index + 1);
+                return 2;
+            }
+        }
+        return 0;
+    }
+
+    // A checkcast to the class the value on the stack is already known to have.
+    private static int removeRedundantCheckcast(Sweep sweep, int index) {
+        Instruction checkcast = sweep.at(index + 1);
+        if (checkcast == null || !checkcast.opcode().equals("checkcast") || !sweep.labelsBefore(index + 1).isEmpty())
+            return 0;
+        if (!checkcast.operand().equals(sweep.pushedClass(index)) && !checkcast.operand().equals("java/lang/Object"))
+            return 0;
+        sweep.delete(index + 1);
+        return 2;
+    }
+
+    private static int shortenIntConstant(Sweep sweep, int index) {
+        Integer value = sweep.intConstant(index);
+        if (value == null || !sweep.at(index).opcode().equals("ldc"))
+            return 0;
+        if (value == -1)
+            sweep.replace(index, "iconst_m1");
+        else if (value >= 0 && value <= 5)
+            sweep.replace(index, "iconst_" + value);
+        else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+            sweep.replace(index, "bipush " + value);
+        else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+            sweep.replace(index, "sipush " + value);
+        else
+            return 0;
+        return 1;
+    }
+}
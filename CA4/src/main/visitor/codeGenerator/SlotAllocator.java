@@ -0,0 +1,162 @@
+package main.visitor.codeGenerator;
+
+import main.visitor.codeGenerator.MethodListing.Instruction;
+
+import java.util.*;
+
+import static main.visitor.codeGenerator.MethodListing.*;
+
+// Renumbers the local slots of every method in a Jasmin listing so that locals whose
+// values are never needed at the same time share a slot. CodeGenerator gives every
+// variable and temporary its own slot for the whole method; here the liveness of each
+// slot is computed over the control flow graph, two locals interfere when one is
+// stored while the other is live, and locals are packed into the lowest slot free of
+// interference that holds the same kind of value (int, reference or long). Argument
+// slots keep their numbers. A method where a local may be read before it is stored,
+// or is used as two kinds, is left as it is.
+public class SlotAllocator {
+    public static String allocate(String listing) {
+        return MethodListing.rewrite(listing, SlotAllocator::allocateMethod);
+    }
+
+    private static List<String> allocateMethod(MethodListing method) {
+        List<Instruction> instructions = method.instructions;
+        Map<Integer, Character> kinds = new LinkedHashMap<>();
+        for (Instruction instruction : instructions) {
+            if (!accessesLocal(instruction))
+                continue;
+            Character previous = kinds.put(localSlot(instruction), instruction.opcode().charAt(0));
+            if (previous != null && previous != instruction.opcode().charAt(0))
+                return method.lines;
+        }
+        for (Map.Entry<Integer, Character> local : kinds.entrySet())
+            if (local.getValue() == 'l' && kinds.containsKey(local.getKey() + 1))
+                return method.lines;
+
+        BitSet[] liveOut = liveness(method);
+        if (liveOut == null)
+            return method.lines;
+
+        Map<Integer, Set<Integer>> interferences = new HashMap<>();
+        for (int index = 0; index < instructions.size(); index++) {
+            Instruction instruction = instructions.get(index);
+            if (!accessesLocal(instruction) || instruction.opcode().contains("load"))
+                continue;
+            int stored = localSlot(instruction);
+            for (int live = liveOut[index].nextSetBit(0); live >= 0; live = liveOut[index].nextSetBit(live + 1)) {
+                if (live == stored)
+                    continue;
+                interferences.computeIfAbsent(stored, slot -> new HashSet<>()).add(live);
+                interferences.computeIfAbsent(live, slot -> new HashSet<>()).add(stored);
+            }
+        }
+
+        Map<Integer, Integer> assigned = new HashMap<>();
+        List<Character> slotKinds = new ArrayList<>();
+        for (Map.Entry<Integer, Character> local : kinds.entrySet()) {
+            int slot = local.getKey();
+            if (slot < method.argumentWords)
+                continue;
+            int width = local.getValue() == 'l' ? 2 : 1;
+            int candidate = method.argumentWords;
+            while (!fits(candidate, width, local.getValue(), slotKinds, assigned, kinds,
+                    interferences.getOrDefault(slot, Set.of()), method.argumentWords))
+                candidate++;
+            assigned.put(slot, candidate);
+            for (int word = candidate; word < candidate + width; word++) {
+                while (slotKinds.size() <= word - method.argumentWords)
+                    slotKinds.add(null);
+                slotKinds.set(word - method.argumentWords, local.getValue());
+            }
+        }
+
+        List<String> allocated = new ArrayList<>(method.lines);
+        for (Instruction instruction : instructions) {
+            if (!accessesLocal(instruction) || localSlot(instruction) < method.argumentWords)
+                continue;
+            String line = method.lines.get(instruction.line());
+            String indent = line.substring(0, line.length() - line.stripLeading().length());
+            String[] operands = instruction.operand().split("\\s+");
+            String increment = instruction.opcode().equals("iinc") ? " " + operands[operands.length - 1] : "";
+            allocated.set(instruction.line(), indent + instruction.opcode().replaceAll("_\\d$", "") + " " +
+                    assigned.get(localSlot(instruction)) + increment);
+        }
+        return allocated;
+    }
+
+    // Whether slots [candidate, candidate + width) hold only values of `kind` so far
+    // and overlap none of the locals the new one interferes with.
+    private static boolean fits(int candidate, int width, char kind, List<Character> slotKinds,
+                                Map<Integer, Integer> assigned, Map<Integer, Character> kinds,
+                                Set<Integer> interfering, int argumentWords) {
+        for (int word = candidate; word < candidate + width; word++) {
+            int offset = word - argumentWords;
+            if (offset < slotKinds.size() && slotKinds.get(offset) != null && slotKinds.get(offset) != kind)
+                return false;
+        }
+        for (int other : interfering) {
+            Integer otherSlot = assigned.get(other);
+            if (otherSlot == null)
+                continue;
+            int otherWidth = kinds.get(other) == 'l' ? 2 : 1;
+            if (otherSlot < candidate + width && candidate < otherSlot + otherWidth)
+                return false;
+        }
+        return true;
+    }
+
+    // Slots live after each instruction, or null when a local other than an argument
+    // is live on entry, i.e. may be read before it is stored.
+    private static BitSet[] liveness(MethodListing method) {
+        List<Instruction> instructions = method.instructions;
+        int size = instructions.size();
+        List<List<Integer>> predecessors = new ArrayList<>();
+        for (int index = 0; index < size; index++)
+            predecessors.add(new ArrayList<>());
+        for (int index = 0; index < size; index++)
+            for (int successor : method.successors(index))
+                predecessors.get(successor).add(index);
+
+        BitSet[] liveIn = new BitSet[size];
+        BitSet[] liveOut = new BitSet[size];
+        for (int index = 0; index < size; index++) {
+            liveIn[index] = new BitSet();
+            liveOut[index] = new BitSet();
+        }
+        Deque<Integer> pending = new ArrayDeque<>();
+        BitSet queued = new BitSet();
+        for (int index = size - 1; index >= 0; index--) {
+            pending.add(index);
+            queued.set(index);
+        }
+        while (!pending.isEmpty()) {
+            int index = pending.poll();
+            queued.clear(index);
+            BitSet out = new BitSet();
+            for (int successor : method.successors(index))
+                out.or(liveIn[successor]);
+            liveOut[index] = out;
+
+            BitSet in = (BitSet) out.clone();
+            Instruction instruction = instructions.get(index);
+            if (accessesLocal(instruction)) {
+                if (!instruction.opcode().contains("load"))
+                    in.clear(localSlot(instruction));
+                if (!instruction.opcode().contains("store"))
+                    in.set(localSlot(instruction));
+            }
+            if (in.equals(liveIn[index]))
+                continue;
+            liveIn[index] = in;
+            for (int predecessor : predecessors.get(index)) {
+                if (!queued.get(predecessor)) {
+                    pending.add(predecessor);
+                    queued.set(predecessor);
+                }
+            }
+        }
+        if (size > 0 && liveIn[0].nextSetBit(method.argumentWords) >= 0)
+            return null;
+        return liveOut;
+    }
+}
@@ -0,0 +1,345 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.expression.value.primitive.BoolValue;
+import main.ast.nodes.expression.value.primitive.IntValue;
+import main.ast.nodes.statement.*;
+import main.visitor.Visitor;
+
+import java.util.*;
+
+// Folds arithmetic, comparisons, negation and `!` over int and bool literals, and
+// replaces variables holding a known literal by that literal so folding continues
+// through assignments. Known values are followed through each body in statement
+// order: the branches of an if start from the same values and only the values both
+// end with are kept; a variable assigned anywhere in a loop is unknown throughout it.
+// Expression visits return the expression that replaces the visited one.
+public class ConstantFolder extends Visitor<Expression> {
+    private Map<String, Expression> constants = new HashMap<>();
+    private Set<String> assigned = new HashSet<>();
+
+    public void fold(Program program) {
+        for (FunctionDeclaration functionDeclaration : program.getFunctionDeclarations())
+            functionDeclaration.accept(this);
+        for (PatternDeclaration patternDeclaration : program.getPatternDeclarations())
+            patternDeclaration.accept(this);
+        program.getMain().accept(this);
+    }
+
+    private Expression fold(Expression expression) {
+        if (expression == null)
+            return null;
+        Expression folded = expression.accept(this);
+        return folded == null ? expression : folded;
+    }
+
+    private void foldAll(List<Expression> expressions) {
+        expressions.replaceAll(this::fold);
+    }
+
+    private void foldBody(List<Statement> statements) {
+        for (Statement statement : statements)
+            statement.accept(this);
+    }
+
+    // A loop body runs with the values known before the loop minus those it assigns.
+    // Its first pass starts from nothing and finds the assigned variables, the second
+    // propagates what is left.
+    private void foldLoop(List<Statement> body, Set<String> alsoAssigned) {
+        Map<String, Expression> before = constants;
+        Set<String> outerAssigned = assigned;
+        assigned = new HashSet<>(alsoAssigned);
+        constants = new HashMap<>();
+        foldBody(body);
+        constants = new HashMap<>(before);
+        constants.keySet().removeAll(assigned);
+        Map<String, Expression> after = new HashMap<>(constants);
+        foldBody(body);
+        constants = after;
+        outerAssigned.addAll(assigned);
+        assigned = outerAssigned;
+    }
+
+    private void define(String name, Expression value) {
+        assigned.add(name);
+        if (value instanceof IntValue || value instanceof BoolValue)
+            constants.put(name, value);
+        else
+            constants.remove(name);
+    }
+
+    private static Expression literal(Object value, Expression replaced) {
+        Expression literal = value instanceof Integer intValue ? new IntValue(intValue) : new BoolValue((Boolean) value);
+        literal.setLine(replaced.getLine());
+        return literal;
+    }
+
+    // The value of `first operator second` on two literals, or null when it cannot be
+    // known at compile time (division by zero) or the operands are not both int or bool.
+    private static Object evaluate(BinaryOperator operator, Expression first, Expression second) {
+        if (first instanceof IntValue a && second instanceof IntValue b) {
+            int x = a.getIntVal();
+            int y = b.getIntVal();
+            return switch (operator) {
+                case PLUS -> x + y;
+                case MINUS -> x - y;
+                case MULT -> x * y;
+                case DIVIDE -> y == 0 ? null : x / y;
+                case MOD -> y == 0 ? null : x % y;
+                case EQUAL -> x == y;
+                case NOT_EQUAL -> x != y;
+                case LESS_THAN -> x < y;
+                case GREATER_THAN -> x > y;
+                case LESS_EQUAL_THAN -> x <= y;
+                case GREATER_EQUAL_THAN -> x >= y;
+                case AND, OR -> null;
+            };
+        }
+        if (first instanceof BoolValue a && second instanceof BoolValue b) {
+            return switch (operator) {
+                case EQUAL -> a.getBool().equals(b.getBool());
+                case NOT_EQUAL -> !a.getBool().equals(b.getBool());
+                default -> null;
+            };
+        }
+        return null;
+    }
+
+    private static BinaryOperator operatorOf(AssignOperator assignOperator) {
+        return switch (assignOperator) {
+            case PLUS_ASSIGN -> BinaryOperator.PLUS;
+            case MINUS_ASSIGN -> BinaryOperator.MINUS;
+            case MULT_ASSIGN -> BinaryOperator.MULT;
+            case DIVIDE_ASSIGN -> BinaryOperator.DIVIDE;
+            case MOD_ASSIGN -> BinaryOperator.MOD;
+            case ASSIGN -> null;
+        };
+    }
+
+    @Override
+    public Expression visit(FunctionDeclaration functionDeclaration) {
+        constants = new HashMap<>();
+        for (VarDeclaration arg : functionDeclaration.getArgs())
+            arg.setDefaultVal(fold(arg.getDefaultVal()));
+        foldBody(functionDeclaration.getBody());
+        return null;
+    }
+
+    @Override
+    public Expression visit(PatternDeclaration patternDeclaration) {
+        constants = new HashMap<>();
+        // the case groups hold the same condition nodes as the flat list
+        Map<Expression, Expression> folded = new IdentityHashMap<>();
+        for (Expression condition : patternDeclaration.getConditions())
+            folded.put(condition, fold(condition));
+        patternDeclaration.getConditions().replaceAll(folded::get);
+        for (ArrayList<Expression> caseConditions : patternDeclaration.getCaseConditions())
+            caseConditions.replaceAll(condition -> folded.getOrDefault(condition, condition));
+        foldAll(patternDeclaration.getReturnExp());
+        return null;
+    }
+
+    @Override
+    public Expression visit(MainDeclaration mainDeclaration) {
+        constants = new HashMap<>();
+        foldBody(mainDeclaration.getBody());
+        return null;
+    }
+
+    @Override
+    public Expression visit(ReturnStatement returnStatement) {
+        returnStatement.setReturnExp(fold(returnStatement.getReturnExp()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(IfStatement ifStatement) {
+        foldAll(ifStatement.getConditions());
+        Map<String, Expression> before = constants;
+        constants = new HashMap<>(before);
+        foldBody(ifStatement.getThenBody());
+        Map<String, Expression> afterThen = constants;
+        constants = new HashMap<>(before);
+        foldBody(ifStatement.getElseBody());
+        retainAgreeing(afterThen);
+        return null;
+    }
+
+    // Keeps the known values that `other`, the values along another path, agrees with.
+    private void retainAgreeing(Map<String, Expression> other) {
+        constants.entrySet().removeIf(entry -> !(other.get(entry.getKey()) instanceof Expression value) ||
+                evaluate(BinaryOperator.EQUAL, value, entry.getValue()) != Boolean.TRUE);
+    }
+
+    @Override
+    public Expression visit(LoopDoStatement loopDoStatement) {
+        foldLoop(loopDoStatement.getLoopBodyStmts(), Set.of());
+        return null;
+    }
+
+    @Override
+    public Expression visit(ForStatement forStatement) {
+        foldAll(forStatement.getRangeExpression().getRangeExpressions());
+        foldLoop(forStatement.getLoopBodyStmts(), Set.of(forStatement.getIteratorId().getName()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(BreakStatement breakStatement) {
+        foldAll(breakStatement.getConditions());
+        return null;
+    }
+
+    @Override
+    public Expression visit(NextStatement nextStatement) {
+        foldAll(nextStatement.getConditions());
+        return null;
+    }
+
+    @Override
+    public Expression visit(AssignStatement assignStatement) {
+        Expression value = fold(assignStatement.getAssignExpression());
+        assignStatement.setAssignExpression(value);
+        if (assignStatement.isAccessList()) {
+            assignStatement.setAccessListExpression(fold(assignStatement.getAccessListExpression()));
+            return null;
+        }
+        String name = assignStatement.getAssignedId().getName();
+        BinaryOperator operator = operatorOf(assignStatement.getAssignOperator());
+        if (operator != null) {
+            Object result = constants.containsKey(name) ? evaluate(operator, constants.get(name), value) : null;
+            if (result == null) {
+                define(name, null);
+                return null;
+            }
+            value = literal(result, value);
+            assignStatement.setAssignOperator(AssignOperator.ASSIGN);
+            assignStatement.setAssignExpression(value);
+        }
+        define(name, value);
+        return null;
+    }
+
+    @Override
+    public Expression visit(ExpressionStatement expressionStatement) {
+        expressionStatement.setExpression(fold(expressionStatement.getExpression()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(PutStatement putStatement) {
+        putStatement.setExpression(fold(putStatement.getExpression()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(PushStatement pushStatement) {
+        pushStatement.setInitial(fold(pushStatement.getInitial()));
+        pushStatement.setToBeAdded(fold(pushStatement.getToBeAdded()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(BinaryExpression binaryExpression) {
+        BinaryOperator operator = binaryExpression.getOperator();
+        binaryExpression.setFirstOperand(fold(binaryExpression.getFirstOperand()));
+        if (operator == BinaryOperator.AND || operator == BinaryOperator.OR) {
+            // the second operand runs only when the first does not decide the result
+            if (binaryExpression.getFirstOperand() instanceof BoolValue first)
+                return first.getBool() == (operator == BinaryOperator.OR) ? first :
+                        fold(binaryExpression.getSecondOperand());
+            Map<String, Expression> before = new HashMap<>(constants);
+            binaryExpression.setSecondOperand(fold(binaryExpression.getSecondOperand()));
+            retainAgreeing(before);
+            return binaryExpression;
+        }
+        binaryExpression.setSecondOperand(fold(binaryExpression.getSecondOperand()));
+        Object result = evaluate(binaryExpression.getOperator(), binaryExpression.getFirstOperand(),
+                binaryExpression.getSecondOperand());
+        return result == null ? binaryExpression : literal(result, binaryExpression);
+    }
+
+    @Override
+    public Expression visit(UnaryExpression unaryExpression) {
+        UnaryOperator operator = unaryExpression.getOperator();
+        if (operator == UnaryOperator.INC || operator == UnaryOperator.DEC) {
+            // the operand is the variable being updated and must stay one
+            String name = ((Identifier) unaryExpression.getExpression()).getName();
+            Object result = constants.containsKey(name) ? evaluate(BinaryOperator.PLUS, constants.get(name),
+                    new IntValue(operator == UnaryOperator.INC ? 1 : -1)) : null;
+            define(name, result == null ? null : literal(result, unaryExpression));
+            return unaryExpression;
+        }
+        Expression operand = fold(unaryExpression.getExpression());
+        unaryExpression.setExpression(operand);
+        if (operator == UnaryOperator.NOT && operand instanceof BoolValue boolValue)
+            return literal(!boolValue.getBool(), unaryExpression);
+        if (operator == UnaryOperator.MINUS && operand instanceof IntValue intValue)
+            return literal(-intValue.getIntVal(), unaryExpression);
+        return unaryExpression;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier) {
+        Expression value = constants.get(identifier.getName());
+        if (value instanceof IntValue intValue)
+            return literal(intValue.getIntVal(), identifier);
+        if (value instanceof BoolValue boolValue)
+            return literal(boolValue.getBool(), identifier);
+        return identifier;
+    }
+
+    @Override
+    public Expression visit(AccessExpression accessExpression) {
+        if (!accessExpression.isFunctionCall())
+            accessExpression.setAccessedExpression(fold(accessExpression.getAccessedExpression()));
+        foldAll(accessExpression.getArguments());
+        foldAll(accessExpression.getDimentionalAccess());
+        return accessExpression;
+    }
+
+    @Override
+    public Expression visit(MatchPatternStatement matchPatternStatement) {
+        matchPatternStatement.setMatchArgument(fold(matchPatternStatement.getMatchArgument()));
+        return matchPatternStatement;
+    }
+
+    @Override
+    public Expression visit(ListValue listValue) {
+        foldAll(listValue.getElements());
+        return listValue;
+    }
+
+    @Override
+    public Expression visit(LenStatement lenStatement) {
+        lenStatement.setExpression(fold(lenStatement.getExpression()));
+        return lenStatement;
+    }
+
+    @Override
+    public Expression visit(ChopStatement chopStatement) {
+        chopStatement.setChopExpression(fold(chopStatement.getChopExpression()));
+        return chopStatement;
+    }
+
+    @Override
+    public Expression visit(ChompStatement chompStatement) {
+        chompStatement.setChompExpression(fold(chompStatement.getChompExpression()));
+        return chompStatement;
+    }
+
+    @Override
+    public Expression visit(AppendExpression appendExpression) {
+        appendExpression.setAppendee(fold(appendExpression.getAppendee()));
+        foldAll(appendExpression.getAppendeds());
+        return appendExpression;
+    }
+}
@@ -0,0 +1,289 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.value.FunctionPointer;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.expression.value.primitive.BoolValue;
+import main.ast.nodes.statement.*;
+import main.symbolTable.item.FunctionItem;
+import main.symbolTable.item.PatternItem;
+import main.visitor.Visitor;
+
+import java.util.*;
+
+// Removes code that can never run: the branch of an if whose condition is a constant,
+// a break or next whose condition is constant false, the statements following a
+// return or an unconditional break or next, and the cases of a pattern after one that
+// always matches or whose guard is constant false. Run after ConstantFolder so that
+// conditions it reduced to literals are pruned too. eliminate() returns the functions
+// and patterns main can still reach, named by their symbol table keys.
+// Statement visits return whether control may continue after the statement.
+public class DeadCodeEliminator extends Visitor<Boolean> {
+    private final Set<String> functionNames = new HashSet<>();
+    private final Map<String, Set<String>> references = new HashMap<>();
+    private Set<String> currentReferences;
+
+    public Set<String> eliminate(Program program) {
+        for (FunctionDeclaration functionDeclaration : program.getFunctionDeclarations())
+            functionNames.add(functionDeclaration.getFunctionName().getName());
+        for (FunctionDeclaration functionDeclaration : program.getFunctionDeclarations()) {
+            currentReferences = new HashSet<>();
+            functionDeclaration.accept(this);
+            references.put(FunctionItem.START_KEY + functionDeclaration.getFunctionName().getName(), currentReferences);
+        }
+        for (PatternDeclaration patternDeclaration : program.getPatternDeclarations()) {
+            currentReferences = new HashSet<>();
+            patternDeclaration.accept(this);
+            references.put(PatternItem.START_KEY + patternDeclaration.getPatternName().getName(), currentReferences);
+        }
+        currentReferences = new HashSet<>();
+        program.getMain().accept(this);
+
+        Set<String> reachable = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(currentReferences);
+        while (!pending.isEmpty()) {
+            String key = pending.pop();
+            if (reachable.add(key))
+                pending.addAll(references.getOrDefault(key, Set.of()));
+        }
+        return reachable;
+    }
+
+    // The value of a condition list that is a single literal, or null. The parser joins
+    // the parts of a condition with && and ||, so a list holds one expression.
+    private static Boolean constantValue(List<Expression> conditions) {
+        if (conditions.size() == 1 && conditions.getFirst() instanceof BoolValue boolValue)
+            return boolValue.getBool();
+        return null;
+    }
+
+    private static boolean isNeverTaken(Statement statement) {
+        List<Expression> conditions = switch (statement) {
+            case BreakStatement breakStatement -> breakStatement.getConditions();
+            case NextStatement nextStatement -> nextStatement.getConditions();
+            default -> null;
+        };
+        return conditions != null && Boolean.FALSE.equals(constantValue(conditions));
+    }
+
+    // Drops the statements of `body` that cannot run and returns whether control may
+    // reach its end.
+    private boolean prune(List<Statement> body) {
+        for (int i = 0; i < body.size(); i++) {
+            if (isNeverTaken(body.get(i))) {
+                body.remove(i--);
+                continue;
+            }
+            if (Boolean.FALSE.equals(body.get(i).accept(this))) {
+                body.subList(i + 1, body.size()).clear();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void visitAll(List<? extends Expression> expressions) {
+        for (Expression expression : expressions)
+            expression.accept(this);
+    }
+
+    @Override
+    public Boolean visit(FunctionDeclaration functionDeclaration) {
+        for (VarDeclaration arg : functionDeclaration.getArgs())
+            if (arg.getDefaultVal() != null)
+                arg.getDefaultVal().accept(this);
+        prune(functionDeclaration.getBody());
+        return null;
+    }
+
+    @Override
+    public Boolean visit(PatternDeclaration patternDeclaration) {
+        ArrayList<ArrayList<Expression>> guards = patternDeclaration.getCaseConditions();
+        ArrayList<Expression> returnExps = patternDeclaration.getReturnExp();
+        for (int i = 0; i < returnExps.size(); i++) {
+            Boolean value = constantValue(guards.get(i));
+            if (Boolean.FALSE.equals(value)) {
+                guards.remove(i);
+                returnExps.remove(i--);
+                continue;
+            }
+            if (Boolean.TRUE.equals(value)) {
+                guards.subList(i + 1, guards.size()).clear();
+                returnExps.subList(i + 1, returnExps.size()).clear();
+            }
+        }
+        patternDeclaration.getConditions().clear();
+        for (ArrayList<Expression> guard : guards)
+            patternDeclaration.getConditions().addAll(guard);
+        visitAll(patternDeclaration.getConditions());
+        visitAll(returnExps);
+        return null;
+    }
+
+    @Override
+    public Boolean visit(MainDeclaration mainDeclaration) {
+        prune(mainDeclaration.getBody());
+        return null;
+    }
+
+    @Override
+    public Boolean visit(ReturnStatement returnStatement) {
+        if (returnStatement.getReturnExp() != null)
+            returnStatement.getReturnExp().accept(this);
+        return false;
+    }
+
+    @Override
+    public Boolean visit(BreakStatement breakStatement) {
+        visitAll(breakStatement.getConditions());
+        return !breakStatement.getConditions().isEmpty() &&
+                !Boolean.TRUE.equals(constantValue(breakStatement.getConditions()));
+    }
+
+    @Override
+    public Boolean visit(NextStatement nextStatement) {
+        visitAll(nextStatement.getConditions());
+        return !nextStatement.getConditions().isEmpty() &&
+                !Boolean.TRUE.equals(constantValue(nextStatement.getConditions()));
+    }
+
+    @Override
+    public Boolean visit(IfStatement ifStatement) {
+        Boolean value = constantValue(ifStatement.getConditions());
+        if (value != null) {
+            (value ? ifStatement.getElseBody() : ifStatement.getThenBody()).clear();
+            return prune(value ? ifStatement.getThenBody() : ifStatement.getElseBody());
+        }
+        visitAll(ifStatement.getConditions());
+        boolean thenContinues = prune(ifStatement.getThenBody());
+        boolean elseContinues = prune(ifStatement.getElseBody());
+        return thenContinues || elseContinues;
+    }
+
+    @Override
+    public Boolean visit(LoopDoStatement loopDoStatement) {
+        prune(loopDoStatement.getLoopBodyStmts());
+        return true;
+    }
+
+    @Override
+    public Boolean visit(ForStatement forStatement) {
+        visitAll(forStatement.getRangeExpression().getRangeExpressions());
+        prune(forStatement.getLoopBodyStmts());
+        return true;
+    }
+
+    @Override
+    public Boolean visit(AssignStatement assignStatement) {
+        if (assignStatement.isAccessList())
+            assignStatement.getAccessListExpression().accept(this);
+        assignStatement.getAssignExpression().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(ExpressionStatement expressionStatement) {
+        expressionStatement.getExpression().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(PutStatement putStatement) {
+        putStatement.getExpression().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(PushStatement pushStatement) {
+        pushStatement.getInitial().accept(this);
+        pushStatement.getToBeAdded().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(AccessExpression accessExpression) {
+        if (accessExpression.isFunctionCall() && accessExpression.getAccessedExpression() instanceof Identifier functionName) {
+            if (functionNames.contains(functionName.getName()))
+                currentReferences.add(FunctionItem.START_KEY + functionName.getName());
+        }
+        else
+            accessExpression.getAccessedExpression().accept(this);
+        visitAll(accessExpression.getArguments());
+        visitAll(accessExpression.getDimentionalAccess());
+        return true;
+    }
+
+    @Override
+    public Boolean visit(MatchPatternStatement matchPatternStatement) {
+        currentReferences.add(PatternItem.START_KEY + matchPatternStatement.getPatternId().getName());
+        matchPatternStatement.getMatchArgument().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(FunctionPointer functionPointer) {
+        currentReferences.add(FunctionItem.START_KEY + functionPointer.getId().getName());
+        return true;
+    }
+
+    @Override
+    public Boolean visit(LambdaExpression lambdaExpression) {
+        if (lambdaExpression.getFunctionDeclaration() != null)
+            currentReferences.add(FunctionItem.START_KEY +
+                    lambdaExpression.getFunctionDeclaration().getFunctionName().getName());
+        for (VarDeclaration arg : lambdaExpression.getDeclarationArgs())
+            if (arg.getDefaultVal() != null)
+                arg.getDefaultVal().accept(this);
+        prune(lambdaExpression.getBody());
+        return true;
+    }
+
+    @Override
+    public Boolean visit(BinaryExpression binaryExpression) {
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(UnaryExpression unaryExpression) {
+        unaryExpression.getExpression().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(ListValue listValue) {
+        visitAll(listValue.getElements());
+        return true;
+    }
+
+    @Override
+    public Boolean visit(LenStatement lenStatement) {
+        lenStatement.getExpression().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(ChopStatement chopStatement) {
+        chopStatement.getChopExpression().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(ChompStatement chompStatement) {
+        chompStatement.getChompExpression().accept(this);
+        return true;
+    }
+
+    @Override
+    public Boolean visit(AppendExpression appendExpression) {
+        appendExpression.getAppendee().accept(this);
+        visitAll(appendExpression.getAppendeds());
+        return true;
+    }
+}
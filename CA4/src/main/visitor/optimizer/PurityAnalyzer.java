@@ -0,0 +1,253 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.value.FunctionPointer;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.expression.value.primitive.BoolValue;
+import main.ast.nodes.expression.value.primitive.FloatValue;
+import main.ast.nodes.expression.value.primitive.IntValue;
+import main.ast.nodes.expression.value.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.symbolTable.item.FunctionItem;
+import main.symbolTable.item.PatternItem;
+import main.visitor.Visitor;
+
+import java.util.*;
+
+// Finds the functions and patterns whose result depends only on their arguments.
+// A body is locally pure when it prints nothing, mutates no list or string, and
+// neither calls through a function pointer nor creates a lambda; a callable is pure
+// when its body is locally pure and every function or pattern it calls is pure.
+// Callables are named by their symbol table keys (FunctionItem.START_KEY + name,
+// PatternItem.START_KEY + name).
+public class PurityAnalyzer extends Visitor<Boolean> {
+    private final Set<String> functionNames = new HashSet<>();
+    private final Map<String, Set<String>> callees = new HashMap<>();
+    private final Set<String> impure = new HashSet<>();
+    private Set<String> currentCallees;
+
+    public Set<String> findPure(Program program) {
+        for (FunctionDeclaration functionDeclaration : program.getFunctionDeclarations())
+            functionNames.add(functionDeclaration.getFunctionName().getName());
+        for (FunctionDeclaration functionDeclaration : program.getFunctionDeclarations())
+            analyze(FunctionItem.START_KEY + functionDeclaration.getFunctionName().getName(), functionDeclaration);
+        for (PatternDeclaration patternDeclaration : program.getPatternDeclarations())
+            analyze(PatternItem.START_KEY + patternDeclaration.getPatternName().getName(), patternDeclaration);
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, Set<String>> entry : callees.entrySet()) {
+                if (impure.contains(entry.getKey()))
+                    continue;
+                for (String callee : entry.getValue()) {
+                    if (impure.contains(callee) || !callees.containsKey(callee)) {
+                        impure.add(entry.getKey());
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        Set<String> pure = new HashSet<>(callees.keySet());
+        pure.removeAll(impure);
+        return pure;
+    }
+
+    private void analyze(String key, FunctionDeclaration functionDeclaration) {
+        currentCallees = new HashSet<>();
+        boolean pure = functionDeclaration.accept(this);
+        record(key, pure);
+    }
+
+    private void analyze(String key, PatternDeclaration patternDeclaration) {
+        currentCallees = new HashSet<>();
+        boolean pure = patternDeclaration.accept(this);
+        record(key, pure);
+    }
+
+    private void record(String key, boolean pure) {
+        callees.put(key, currentCallees);
+        if (!pure)
+            impure.add(key);
+    }
+
+    private boolean allPure(List<? extends Statement> statements) {
+        boolean pure = true;
+        for (Statement statement : statements)
+            pure &= statement.accept(this);
+        return pure;
+    }
+
+    private boolean allPureExpressions(List<? extends Expression> expressions) {
+        boolean pure = true;
+        for (Expression expression : expressions)
+            pure &= expression.accept(this);
+        return pure;
+    }
+
+    @Override
+    public Boolean visit(FunctionDeclaration functionDeclaration) {
+        boolean pure = true;
+        for (var arg : functionDeclaration.getArgs())
+            if (arg.getDefaultVal() != null)
+                pure &= arg.getDefaultVal().accept(this);
+        return pure & allPure(functionDeclaration.getBody());
+    }
+
+    @Override
+    public Boolean visit(PatternDeclaration patternDeclaration) {
+        return allPureExpressions(patternDeclaration.getConditions()) &
+                allPureExpressions(patternDeclaration.getReturnExp());
+    }
+
+    @Override
+    public Boolean visit(ReturnStatement returnStatement) {
+        return returnStatement.getReturnExp() == null || returnStatement.getReturnExp().accept(this);
+    }
+
+    @Override
+    public Boolean visit(IfStatement ifStatement) {
+        return allPureExpressions(ifStatement.getConditions()) & allPure(ifStatement.getThenBody()) &
+                allPure(ifStatement.getElseBody());
+    }
+
+    @Override
+    public Boolean visit(LoopDoStatement loopDoStatement) {
+        return allPure(loopDoStatement.getLoopBodyStmts());
+    }
+
+    @Override
+    public Boolean visit(ForStatement forStatement) {
+        return forStatement.getRangeExpression().accept(this) & allPure(forStatement.getLoopBodyStmts());
+    }
+
+    @Override
+    public Boolean visit(BreakStatement breakStatement) {
+        return allPureExpressions(breakStatement.getConditions());
+    }
+
+    @Override
+    public Boolean visit(NextStatement nextStatement) {
+        return allPureExpressions(nextStatement.getConditions());
+    }
+
+    @Override
+    public Boolean visit(AssignStatement assignStatement) {
+        if (assignStatement.isAccessList())
+            return false;
+        return assignStatement.getAssignExpression().accept(this);
+    }
+
+    @Override
+    public Boolean visit(ExpressionStatement expressionStatement) {
+        return expressionStatement.getExpression().accept(this);
+    }
+
+    @Override
+    public Boolean visit(PutStatement putStatement) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(PushStatement pushStatement) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(ChopStatement chopStatement) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(ChompStatement chompStatement) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(AppendExpression appendExpression) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(LambdaExpression lambdaExpression) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(AccessExpression accessExpression) {
+        if (accessExpression.isFunctionCall()) {
+            if (!(accessExpression.getAccessedExpression() instanceof Identifier functionName) ||
+                    !functionNames.contains(functionName.getName()))
+                return false;
+            currentCallees.add(FunctionItem.START_KEY + functionName.getName());
+            return allPureExpressions(accessExpression.getArguments());
+        }
+        return accessExpression.getAccessedExpression().accept(this) &
+                allPureExpressions(accessExpression.getDimentionalAccess());
+    }
+
+    @Override
+    public Boolean visit(MatchPatternStatement matchPatternStatement) {
+        currentCallees.add(PatternItem.START_KEY + matchPatternStatement.getPatternId().getName());
+        return matchPatternStatement.getMatchArgument().accept(this);
+    }
+
+    @Override
+    public Boolean visit(BinaryExpression binaryExpression) {
+        return binaryExpression.getFirstOperand().accept(this) & binaryExpression.getSecondOperand().accept(this);
+    }
+
+    @Override
+    public Boolean visit(UnaryExpression unaryExpression) {
+        return unaryExpression.getExpression().accept(this);
+    }
+
+    @Override
+    public Boolean visit(LenStatement lenStatement) {
+        return lenStatement.getExpression().accept(this);
+    }
+
+    @Override
+    public Boolean visit(RangeExpression rangeExpression) {
+        return allPureExpressions(rangeExpression.getRangeExpressions());
+    }
+
+    @Override
+    public Boolean visit(ListValue listValue) {
+        return allPureExpressions(listValue.getElements());
+    }
+
+    @Override
+    public Boolean visit(Identifier identifier) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(FunctionPointer functionPointer) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(IntValue intValue) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(BoolValue boolValue) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(StringValue stringValue) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(FloatValue floatValue) {
+        return true;
+    }
+}
@@ -0,0 +1,178 @@
+package main.visitor.type;
+
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.statement.*;
+import main.visitor.Visitor;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+// Collects, in order of first appearance, the names a lambda body mentions that its
+// own arguments do not declare. Nested lambdas are searched too, since whatever they
+// capture from outside has to be captured by the enclosing lambda first. The type
+// checker keeps those names that are variables of the scope creating the lambda.
+public class CapturedVariableFinder extends Visitor<Void> {
+    private final LinkedHashSet<String> names = new LinkedHashSet<>();
+
+    public LinkedHashSet<String> find(LambdaExpression lambdaExpression) {
+        lambdaExpression.accept(this);
+        for (VarDeclaration arg : lambdaExpression.getDeclarationArgs())
+            names.remove(arg.getName().getName());
+        return names;
+    }
+
+    private void visitAll(List<? extends Expression> expressions) {
+        for (Expression expression : expressions)
+            expression.accept(this);
+    }
+
+    private void visitBody(List<Statement> body) {
+        for (Statement statement : body)
+            statement.accept(this);
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        names.add(identifier.getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(LambdaExpression lambdaExpression) {
+        for (VarDeclaration arg : lambdaExpression.getDeclarationArgs())
+            if (arg.getDefaultVal() != null)
+                arg.getDefaultVal().accept(this);
+        visitBody(lambdaExpression.getBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStatement returnStatement) {
+        if (returnStatement.getReturnExp() != null)
+            returnStatement.getReturnExp().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BreakStatement breakStatement) {
+        visitAll(breakStatement.getConditions());
+        return null;
+    }
+
+    @Override
+    public Void visit(NextStatement nextStatement) {
+        visitAll(nextStatement.getConditions());
+        return null;
+    }
+
+    @Override
+    public Void visit(IfStatement ifStatement) {
+        visitAll(ifStatement.getConditions());
+        visitBody(ifStatement.getThenBody());
+        visitBody(ifStatement.getElseBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(LoopDoStatement loopDoStatement) {
+        visitBody(loopDoStatement.getLoopBodyStmts());
+        return null;
+    }
+
+    @Override
+    public Void visit(ForStatement forStatement) {
+        visitAll(forStatement.getRangeExpression().getRangeExpressions());
+        visitBody(forStatement.getLoopBodyStmts());
+        return null;
+    }
+
+    // An assigned variable is collected as well: a compound assignment reads it, and a
+    // lambda may update its own copy of a captured value.
+    @Override
+    public Void visit(AssignStatement assignStatement) {
+        assignStatement.getAssignedId().accept(this);
+        if (assignStatement.isAccessList())
+            assignStatement.getAccessListExpression().accept(this);
+        assignStatement.getAssignExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ExpressionStatement expressionStatement) {
+        expressionStatement.getExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(PutStatement putStatement) {
+        putStatement.getExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(PushStatement pushStatement) {
+        pushStatement.getInitial().accept(this);
+        pushStatement.getToBeAdded().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(AccessExpression accessExpression) {
+        accessExpression.getAccessedExpression().accept(this);
+        visitAll(accessExpression.getArguments());
+        visitAll(accessExpression.getDimentionalAccess());
+        return null;
+    }
+
+    @Override
+    public Void visit(MatchPatternStatement matchPatternStatement) {
+        matchPatternStatement.getMatchArgument().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        unaryExpression.getExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListValue listValue) {
+        visitAll(listValue.getElements());
+        return null;
+    }
+
+    @Override
+    public Void visit(LenStatement lenStatement) {
+        lenStatement.getExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ChopStatement chopStatement) {
+        chopStatement.getChopExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ChompStatement chompStatement) {
+        chompStatement.getChompExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(AppendExpression appendExpression) {
+        appendExpression.getAppendee().accept(this);
+        visitAll(appendExpression.getAppendeds());
+        return null;
+    }
+}
@@ -22,6 +22,31 @@ public class TypeChecker extends Visitor<Type> {
     public ArrayList<CompileError> typeErrors = new ArrayList<>();
     private final Stack<Set<Type>> returnTypesStack = new Stack<>();
     public final Set<String> visited = new HashSet<>();
+    public final Set<String> visitedPatterns = new HashSet<>();
+    private final Map<String, Set<Type>> pendingReturnTypes = new HashMap<>();
+    private int unresolvedRecursions = 0;
+    private final Map<Expression, Type> expressionTypes = new IdentityHashMap<>();
+    private int lambdaCount = 0;
+
+    // Records the type of every checked node, NoType included. A type that depends on
+    // a recursive call whose callable had no return type yet is not final and is left
+    // out; the callable is checked again once its type is known.
+    private Type typeOf(Expression expression) {
+        int unresolvedBefore = unresolvedRecursions;
+        Type type = expression.accept(this);
+        if (unresolvedRecursions == unresolvedBefore)
+            expressionTypes.put(expression, type);
+        return type;
+    }
+
+    // Code generation asks for the type recorded during checking instead of walking
+    // the subtree again. Only nodes that were never checked, or whose type was not
+    // final, are typed on demand.
+    public Type getExpressionType(Expression expression) {
+        if (expressionTypes.containsKey(expression))
+            return expressionTypes.get(expression);
+        return typeOf(expression);
+    }
 
     @Override
     public Type visit(Program program){
@@ -46,6 +71,10 @@ public class TypeChecker extends Visitor<Type> {
     @Override
     public Type visit(FunctionDeclaration functionDeclaration){
         if (visited.contains(functionDeclaration.getFunctionName().getName())) {
+            // a recursive call sees the return types collected so far in the enclosing visit
+            Set<Type> pendingTypes = pendingReturnTypes.get(functionDeclaration.getFunctionName().getName());
+            if (pendingTypes != null)
+                return pendingReturnType(pendingTypes);
             try {
                 return ((FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
                         functionDeclaration.getFunctionName().getName())).getReturnType();
@@ -54,6 +83,7 @@ public class TypeChecker extends Visitor<Type> {
         SymbolTable.push(new SymbolTable());
         returnTypesStack.push(new HashSet<>());
         visited.add(functionDeclaration.getFunctionName().getName());
+        pendingReturnTypes.put(functionDeclaration.getFunctionName().getName(), returnTypesStack.peek());
         try {
             FunctionItem functionItem = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
                     functionDeclaration.getFunctionName().getName());
@@ -70,10 +100,17 @@ public class TypeChecker extends Visitor<Type> {
                 }
             }
         }catch (ItemNotFound ignored){}
+        int unresolvedBefore = unresolvedRecursions;
         for(Statement statement : functionDeclaration.getBody())
             statement.accept(this);
 
         Set<Type> returnStmtsTypes = returnTypesStack.pop();
+        if (unresolvedRecursions > unresolvedBefore && returnStmtsTypes.size() == 1)
+            returnStmtsTypes = recheck(functionDeclaration.getFunctionName().getName(), returnStmtsTypes, () -> {
+                for(Statement statement : functionDeclaration.getBody())
+                    statement.accept(this);
+            });
+        pendingReturnTypes.remove(functionDeclaration.getFunctionName().getName());
         if(returnStmtsTypes.size() > 1){
             typeErrors.add(new FunctionInconsistentReturnTypes(functionDeclaration.getLine(),
                     functionDeclaration.getFunctionName().getName()));
@@ -95,37 +132,54 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(PatternDeclaration patternDeclaration){
+        String patternKey = PatternItem.START_KEY + patternDeclaration.getPatternName().getName();
+        Set<Type> pendingTypes = pendingReturnTypes.get(patternKey);
+        if (pendingTypes != null)
+            // a recursive match sees the return types collected so far in the enclosing visit
+            return pendingReturnType(pendingTypes);
         SymbolTable.push(new SymbolTable());
         returnTypesStack.push(new HashSet<>());
+        pendingReturnTypes.put(patternKey, returnTypesStack.peek());
         try {
-            PatternItem patternItem = (PatternItem) SymbolTable.root.getItem(PatternItem.START_KEY +
-                    patternDeclaration.getPatternName().getName());
+            PatternItem patternItem = (PatternItem) SymbolTable.root.getItem(patternKey);
+            patternItem.setPatternSymbolTable(SymbolTable.top);
             VarItem varItem = new VarItem(patternDeclaration.getTargetVariable());
             varItem.setType(patternItem.getTargetVarType());
             try {
                 SymbolTable.top.put(varItem);
             }catch (ItemAlreadyExists ignored){}
             for(Expression expression : patternDeclaration.getConditions()){
-                if(!(expression.accept(this) instanceof BoolType)){
+                if(!(typeOf(expression) instanceof BoolType)){
                     typeErrors.add(new ConditionIsNotBool(expression.getLine()));
-                    SymbolTable.pop();
                     return new NoType();
                 }
             }
+            int unresolvedBefore = unresolvedRecursions;
             for(Expression expression : patternDeclaration.getReturnExp())
-                returnTypesStack.peek().add(expression.accept(this));
-            Set<Type> returnStmtsTypes = returnTypesStack.pop();
+                addReturnType(expression);
+            Set<Type> returnStmtsTypes = returnTypesStack.peek();
+            if (unresolvedRecursions > unresolvedBefore && returnStmtsTypes.size() == 1)
+                returnStmtsTypes = recheck(patternKey, returnStmtsTypes, () -> {
+                    for(Expression expression : patternDeclaration.getConditions())
+                        typeOf(expression);
+                    for(Expression expression : patternDeclaration.getReturnExp())
+                        addReturnType(expression);
+                });
             if(returnStmtsTypes.size() != 1){
                 typeErrors.add(new PatternInconsistentReturnTypes(patternDeclaration.getLine(),
                         patternDeclaration.getPatternName().getName()));
-                SymbolTable.pop();
                 return new NoType();
             }
+            patternItem.setReturnType(returnStmtsTypes.iterator().next());
+            visitedPatterns.add(patternItem.getName());
+            return patternItem.getReturnType();
+        }catch (ItemNotFound ignored){
+            return new NoType();
+        } finally {
+            pendingReturnTypes.remove(patternKey);
+            returnTypesStack.pop();
             SymbolTable.pop();
-            return returnStmtsTypes.iterator().next();
-        }catch (ItemNotFound ignored){}
-        SymbolTable.pop();
-        return new NoType();
+        }
     }
     @Override
     public Type visit(MainDeclaration mainDeclaration){
@@ -140,7 +194,7 @@ public class TypeChecker extends Visitor<Type> {
         if(accessExpression.isFunctionCall()){
             ArrayList<Type> argTypes = new ArrayList<>();
             for(Expression expression:accessExpression.getArguments()){
-                argTypes.add(expression.accept(this));
+                argTypes.add(typeOf(expression));
             }
             Identifier functionName = (Identifier)accessExpression.getAccessedExpression();
             try {
@@ -148,16 +202,16 @@ public class TypeChecker extends Visitor<Type> {
                 List<VarDeclaration> defaultVals = functionItem.getFunctionDeclaration().getArgs().
                         stream().
                         filter(a->a.getDefaultVal() != null).toList();
-                int i = defaultVals.size() - 1;
+                int i = defaultVals.size() - (functionItem.getFunctionDeclaration().getArgs().size() - argTypes.size());
                 while(argTypes.size() < functionItem.getFunctionDeclaration().getArgs().size()){
-                    argTypes.add(defaultVals.get(i).getDefaultVal().accept(this));
-                    i -= 1;
+                    argTypes.add(typeOf(defaultVals.get(i).getDefaultVal()));
+                    i += 1;
                 }
                 functionItem.setArgumentTypes(argTypes);
                 return functionItem.getFunctionDeclaration().accept(this);
             }
             catch (ItemNotFound e){
-                Type nonFunctionType = accessExpression.getAccessedExpression().accept(this);
+                Type nonFunctionType = typeOf(accessExpression.getAccessedExpression());
                 if(! (nonFunctionType instanceof FptrType fptrType)){
                     typeErrors.add(new IsNotCallable(accessExpression.getLine()));
                     return new NoType();
@@ -165,13 +219,14 @@ public class TypeChecker extends Visitor<Type> {
                 else{
                     try {
                         FunctionItem functionItem = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY + fptrType.getFunctionName());
+                        argTypes.addAll(0, fptrType.getCapturedTypes());
                         List<VarDeclaration> defaultVals = functionItem.getFunctionDeclaration().getArgs().
                                 stream().
                                 filter(a->a.getDefaultVal() != null).toList();
-                        int i = defaultVals.size() - 1;
+                        int i = defaultVals.size() - (functionItem.getFunctionDeclaration().getArgs().size() - argTypes.size());
                         while(argTypes.size() < functionItem.getFunctionDeclaration().getArgs().size()){
-                            argTypes.add(defaultVals.get(i).getDefaultVal().accept(this));
-                            i -= 1;
+                            argTypes.add(typeOf(defaultVals.get(i).getDefaultVal()));
+                            i += 1;
                         }
                         functionItem.setArgumentTypes(argTypes);
                         return functionItem.getFunctionDeclaration().accept(this);
@@ -181,14 +236,14 @@ public class TypeChecker extends Visitor<Type> {
             }
         }
         else{
-            Type accessedType = accessExpression.getAccessedExpression().accept(this);
+            Type accessedType = typeOf(accessExpression.getAccessedExpression());
             if(!(accessedType instanceof StringType) && !(accessedType instanceof ListType)){
                 typeErrors.add(new IsNotIndexable(accessExpression.getLine()));
                 return new NoType();
             }
             Set<Type> accessTypes = new HashSet<>();
             for(Expression expression : accessExpression.getDimentionalAccess()){
-                accessTypes.add(expression.accept(this));
+                accessTypes.add(typeOf(expression));
             }
             if(! (accessTypes.stream().toList().getFirst() instanceof IntType)){
                 typeErrors.add(new AccessIndexIsNotInt(accessExpression.getLine()));
@@ -208,19 +263,54 @@ public class TypeChecker extends Visitor<Type> {
             returnTypesStack.peek().add(new NoType());
             return new NoType();
         }
-        Type returnType = returnStatement.getReturnExp().accept(this);
-        returnTypesStack.peek().add(returnType);
+        return addReturnType(returnStatement.getReturnExp());
+    }
+
+    // The type a recursive call gets while its callable is being checked. Until the
+    // returns seen so far agree on one type it is NoType, and the call is counted as
+    // unresolved.
+    private Type pendingReturnType(Set<Type> pendingTypes) {
+        if (pendingTypes.size() == 1)
+            return pendingTypes.iterator().next();
+        unresolvedRecursions++;
+        return new NoType();
+    }
+
+    // A returned expression left untyped by an unresolved recursive call does not take
+    // part in the agreement of the return types; the other returns decide them.
+    private Type addReturnType(Expression returnExp) {
+        int unresolvedBefore = unresolvedRecursions;
+        Type returnType = typeOf(returnExp);
+        if (!(returnType instanceof NoType) || unresolvedRecursions == unresolvedBefore)
+            returnTypesStack.peek().add(returnType);
         return returnType;
     }
+
+    // Checks a callable again once its returns agree on a type, so that recursive calls
+    // and the expressions built on them are typed with it. Errors the first pass already
+    // reported are not reported twice. Returns the return types of the second pass.
+    private Set<Type> recheck(String key, Set<Type> settledTypes, Runnable body) {
+        Set<String> reported = new HashSet<>();
+        for (CompileError typeError : typeErrors)
+            reported.add(typeError.getLine() + typeError.getErrorMessage());
+        int errorsBefore = typeErrors.size();
+        pendingReturnTypes.put(key, settledTypes);
+        returnTypesStack.push(new HashSet<>());
+        body.run();
+        typeErrors.subList(errorsBefore, typeErrors.size()).removeIf(
+                typeError -> reported.contains(typeError.getLine() + typeError.getErrorMessage()));
+        return returnTypesStack.pop();
+    }
     @Override
     public Type visit(ExpressionStatement expressionStatement){
-        return expressionStatement.getExpression().accept(this);
+        return typeOf(expressionStatement.getExpression());
 
     }
     @Override
     public Type visit(ForStatement forStatement){
-        SymbolTable.push(SymbolTable.top.copy());
-        Type rangeTypeIter = forStatement.getRangeExpression().accept(this);
+        SymbolTable.push(new SymbolTable(SymbolTable.top));
+        forStatement.setSymbolTable(SymbolTable.top);
+        Type rangeTypeIter = typeOf(forStatement.getRangeExpression());
         VarItem varItem = new VarItem(forStatement.getIteratorId());
         varItem.setType(rangeTypeIter);
         try{
@@ -242,10 +332,10 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(IfStatement ifStatement){
-        SymbolTable.push(SymbolTable.top.copy());
+        SymbolTable.push(new SymbolTable(SymbolTable.top));
         ifStatement.setSymbolTable(SymbolTable.top);
         for(Expression expression : ifStatement.getConditions())
-            if(!(expression.accept(this) instanceof BoolType))
+            if(!(typeOf(expression) instanceof BoolType))
                 typeErrors.add(new ConditionIsNotBool(expression.getLine()));
         for(Statement statement : ifStatement.getThenBody())
             statement.accept(this);
@@ -256,7 +346,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(LoopDoStatement loopDoStatement){
-        SymbolTable.push(SymbolTable.top.copy());
+        SymbolTable.push(new SymbolTable(SymbolTable.top));
         loopDoStatement.setSymbolTable(SymbolTable.top);
         for(Statement statement : loopDoStatement.getLoopBodyStmts())
             statement.accept(this);
@@ -266,19 +356,19 @@ public class TypeChecker extends Visitor<Type> {
     @Override
     public Type visit(AssignStatement assignStatement){
         if(assignStatement.isAccessList()){
-            if(!(assignStatement.getAccessListExpression().accept(this) instanceof IntType)){
+            if(!(typeOf(assignStatement.getAccessListExpression()) instanceof IntType)){
                 typeErrors.add(new AccessIndexIsNotInt(assignStatement.getLine()));
                 return new NoType();
             }
-            Type assignExpType = assignStatement.getAssignExpression().accept(this);
-            ListType listType = (ListType) assignStatement.getAssignedId().accept(this);
+            Type assignExpType = typeOf(assignStatement.getAssignExpression());
+            ListType listType = (ListType) typeOf(assignStatement.getAssignedId());
             if(!assignExpType.sameType(listType.getType())){
                 typeErrors.add(new ListElementsInconsistentType(assignStatement.getLine()));
                 return new NoType();
             }
         }
         else{
-            Type assignExpType = assignStatement.getAssignExpression().accept(this);
+            Type assignExpType = typeOf(assignStatement.getAssignExpression());
             VarItem newVarItem = new VarItem(assignStatement.getAssignedId());
             newVarItem.setType(assignExpType);
             try {
@@ -297,7 +387,7 @@ public class TypeChecker extends Visitor<Type> {
     @Override
     public Type visit(BreakStatement breakStatement){
         for(Expression expression : breakStatement.getConditions())
-            if(!((expression.accept(this)) instanceof BoolType))
+            if(!((typeOf(expression)) instanceof BoolType))
                 typeErrors.add(new ConditionIsNotBool(expression.getLine()));
 
         return null;
@@ -305,15 +395,15 @@ public class TypeChecker extends Visitor<Type> {
     @Override
     public Type visit(NextStatement nextStatement){
         for(Expression expression : nextStatement.getConditions())
-            if(!((expression.accept(this)) instanceof BoolType))
+            if(!((typeOf(expression)) instanceof BoolType))
                 typeErrors.add(new ConditionIsNotBool(expression.getLine()));
 
         return null;
     }
     @Override
     public Type visit(PushStatement pushStatement){
-        Type initType = pushStatement.getInitial().accept(this);
-        Type toBeAddedType = pushStatement.getToBeAdded().accept(this);
+        Type initType = typeOf(pushStatement.getInitial());
+        Type toBeAddedType = typeOf(pushStatement.getToBeAdded());
         if(!(initType instanceof ListType) && !(initType instanceof StringType)){
             typeErrors.add(new CannotBePushed(pushStatement.getLine()));
             return new NoType();
@@ -331,7 +421,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(PutStatement putStatement){
-        Type put = putStatement.getExpression().accept(this);
+        Type put = typeOf(putStatement.getExpression());
         if(put instanceof FptrType){
             typeErrors.add(new IsNotPrintable(putStatement.getLine()));
             return new NoType();
@@ -360,7 +450,7 @@ public class TypeChecker extends Visitor<Type> {
     public Type visit(ListValue listValue){
         Set<Type> listTypes = new HashSet<>();
         for(Expression expression : listValue.getElements()){
-            listTypes.add(expression.accept(this));
+            listTypes.add(typeOf(expression));
         }
         if(listTypes.size() != 1){
             typeErrors.add(new ListElementsInconsistentType(listValue.getLine()));
@@ -374,14 +464,14 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(AppendExpression appendExpression){
-        Type appendeeType = appendExpression.getAppendee().accept(this);
+        Type appendeeType = typeOf(appendExpression.getAppendee());
         Set<Type> appendedTypes = new HashSet<>();
         if(!(appendeeType instanceof ListType) && !(appendeeType instanceof StringType)){
             typeErrors.add(new IsNotAppendable(appendExpression.getLine()));
             return new NoType();
         }
         for(Expression expression: appendExpression.getAppendeds())
-            appendedTypes.add(expression.accept(this));
+            appendedTypes.add(typeOf(expression));
 
         if(appendedTypes.size() != 1){
             typeErrors.add(new AppendTypesMisMatch(appendExpression.getLine()));
@@ -401,8 +491,17 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(BinaryExpression binaryExpression){
-        Type leftOpType = binaryExpression.getFirstOperand().accept(this);
-        Type rightOpType = binaryExpression.getSecondOperand().accept(this);
+        Type leftOpType = typeOf(binaryExpression.getFirstOperand());
+        Type rightOpType = typeOf(binaryExpression.getSecondOperand());
+        if(binaryExpression.getOperator().equals(BinaryOperator.AND)
+                || binaryExpression.getOperator().equals(BinaryOperator.OR)){
+            // the operands of && and || are conditions of their own
+            if(!(leftOpType instanceof BoolType))
+                typeErrors.add(new ConditionIsNotBool(binaryExpression.getFirstOperand().getLine()));
+            if(!(rightOpType instanceof BoolType))
+                typeErrors.add(new ConditionIsNotBool(binaryExpression.getSecondOperand().getLine()));
+            return new BoolType();
+        }
         if(!leftOpType.sameType(rightOpType) && !(leftOpType instanceof NoType) && !(rightOpType instanceof NoType)){
             typeErrors.add(new NonSameOperands(binaryExpression.getLine(), binaryExpression.getOperator()));
             return new NoType();
@@ -458,7 +557,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(UnaryExpression unaryExpression){
-        Type operandType = unaryExpression.getExpression().accept(this);
+        Type operandType = typeOf(unaryExpression.getExpression());
         UnaryOperator operator = unaryExpression.getOperator();
         boolean operandIsNoType = operandType instanceof NoType;
 
@@ -487,7 +586,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(ChompStatement chompStatement){
-        if (!(chompStatement.getChompExpression().accept(this) instanceof StringType)) {
+        if (!(typeOf(chompStatement.getChompExpression()) instanceof StringType)) {
             typeErrors.add(new ChompArgumentTypeMisMatch(chompStatement.getLine()));
             return new NoType();
         }
@@ -496,7 +595,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(ChopStatement chopStatement){
-        if (!(chopStatement.getChopExpression().accept(this) instanceof StringType)) {
+        if (!(typeOf(chopStatement.getChopExpression()) instanceof StringType)) {
             typeErrors.add(new ChopArgumentTypeMisMatch(chopStatement.getLine()));
             return new NoType();
         }
@@ -514,11 +613,43 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(LambdaExpression lambdaExpression){
-        return new NoType();
+        // a lambda becomes a function of the variables it captures followed by its own
+        // arguments; calls through the pointer get the captured values bound in front
+        if (lambdaExpression.getFunctionDeclaration() == null) {
+            ArrayList<Identifier> capturedVariables = new ArrayList<>();
+            for (String name : new CapturedVariableFinder().find(lambdaExpression)) {
+                try {
+                    SymbolTable.top.getItem(VarItem.START_KEY + name);
+                    Identifier capturedVariable = new Identifier(name);
+                    capturedVariable.setLine(lambdaExpression.getLine());
+                    capturedVariables.add(capturedVariable);
+                }catch (ItemNotFound ignored){}
+            }
+            FunctionDeclaration functionDeclaration = new FunctionDeclaration();
+            Identifier functionName = new Identifier("lambda$" + lambdaCount++);
+            functionName.setLine(lambdaExpression.getLine());
+            functionDeclaration.setFunctionName(functionName);
+            functionDeclaration.setLine(lambdaExpression.getLine());
+            ArrayList<VarDeclaration> args = new ArrayList<>();
+            for (Identifier capturedVariable : capturedVariables)
+                args.add(new VarDeclaration(new Identifier(capturedVariable.getName())));
+            args.addAll(lambdaExpression.getDeclarationArgs());
+            functionDeclaration.setArgs(args);
+            functionDeclaration.setBody(lambdaExpression.getBody());
+            try {
+                SymbolTable.root.put(new FunctionItem(functionDeclaration));
+            }catch (ItemAlreadyExists ignored){}
+            lambdaExpression.setFunctionDeclaration(functionDeclaration);
+            lambdaExpression.setCapturedVariables(capturedVariables);
+        }
+        ArrayList<Type> capturedTypes = new ArrayList<>();
+        for (Identifier capturedVariable : lambdaExpression.getCapturedVariables())
+            capturedTypes.add(typeOf(capturedVariable));
+        return new FptrType(lambdaExpression.getFunctionDeclaration().getFunctionName().getName(), capturedTypes);
     }
     @Override
     public Type visit(LenStatement lenStatement){
-        Type argType = lenStatement.getExpression().accept(this);
+        Type argType = typeOf(lenStatement.getExpression());
         if(!(argType instanceof StringType) && !(argType instanceof ListType)){
             typeErrors.add(new LenArgumentTypeMisMatch(lenStatement.getLine()));
             return new NoType();
@@ -530,7 +661,7 @@ public class TypeChecker extends Visitor<Type> {
         try{
             PatternItem patternItem = (PatternItem)SymbolTable.root.getItem(PatternItem.START_KEY +
                     matchPatternStatement.getPatternId().getName());
-            patternItem.setTargetVarType(matchPatternStatement.getMatchArgument().accept(this));
+            patternItem.setTargetVarType(typeOf(matchPatternStatement.getMatchArgument()));
             return patternItem.getPatternDeclaration().accept(this);
         }catch (ItemNotFound ignored){}
         return new NoType();
@@ -539,7 +670,7 @@ public class TypeChecker extends Visitor<Type> {
     public Type visit(RangeExpression rangeExpression){
         RangeType rangeType = rangeExpression.getRangeType();
         if(rangeType.equals(RangeType.IDENTIFIER)){
-            Type rangeIdentifierType = rangeExpression.getRangeExpressions().getFirst().accept(this);
+            Type rangeIdentifierType = typeOf(rangeExpression.getRangeExpressions().getFirst());
             if(rangeIdentifierType instanceof ListType listType){
                 return listType.getType();
             }
@@ -551,7 +682,7 @@ public class TypeChecker extends Visitor<Type> {
         else if(rangeType.equals(RangeType.LIST)){
             Set<Type> typesOfElements = new HashSet<>();
             for(Expression expression : rangeExpression.getRangeExpressions())
-                typesOfElements.add(expression.accept(this));
+                typesOfElements.add(typeOf(expression));
 
             if(typesOfElements.size() != 1){
                 typeErrors.add(new ListElementsInconsistentType(rangeExpression.getLine()));
@@ -560,8 +691,8 @@ public class TypeChecker extends Visitor<Type> {
             return typesOfElements.stream().toList().getFirst();
         }
         else if(rangeType.equals(RangeType.DOUBLE_DOT)){
-            Type beginRange = rangeExpression.getRangeExpressions().getFirst().accept(this);
-            Type endRange = rangeExpression.getRangeExpressions().getLast().accept(this);
+            Type beginRange = typeOf(rangeExpression.getRangeExpressions().getFirst());
+            Type endRange = typeOf(rangeExpression.getRangeExpressions().getLast());
             if(!(beginRange instanceof IntType) || !(endRange instanceof IntType)){
                 typeErrors.add(new RangeValuesMisMatch(rangeExpression.getLine()));
                 return new NoType();
@@ -134,6 +134,28 @@ public class FunctionCraftParser extends Parser {
 	@Override
 	public ATN getATN() { return _ATN; }
 
+
+	    // `&&` binds tighter than `||` and both group to the left
+	    private static Expression connect(ArrayList<Expression> operands, ArrayList<BinaryOperator> connectives) {
+	        Expression disjunction = null;
+	        Expression conjunction = operands.get(0);
+	        for (int i = 0; i < connectives.size(); i++) {
+	            if (connectives.get(i) == BinaryOperator.AND) {
+	                conjunction = join(conjunction, operands.get(i + 1), BinaryOperator.AND);
+	                continue;
+	            }
+	            disjunction = disjunction == null ? conjunction : join(disjunction, conjunction, BinaryOperator.OR);
+	            conjunction = operands.get(i + 1);
+	        }
+	        return disjunction == null ? conjunction : join(disjunction, conjunction, BinaryOperator.OR);
+	    }
+
+	    private static Expression join(Expression first, Expression second, BinaryOperator operator) {
+	        BinaryExpression joined = new BinaryExpression(first, second, operator);
+	        joined.setLine(first.getLine());
+	        return joined;
+	    }
+
 	public FunctionCraftParser(TokenStream input) {
 		super(input);
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
@@ -967,7 +989,12 @@ public class FunctionCraftParser extends Parser {
 	@SuppressWarnings("CheckReturnValue")
 	public static class ConditionContext extends ParserRuleContext {
 		public ArrayList<Expression> conditionRet;
+		public ArrayList<Expression> operands;
+		public ArrayList<BinaryOperator> connectives;
+		public boolean grouped;
 		public ExpressionContext e;
+		public ConditionContext g;
+		public Token op;
 		public ConditionContext c;
 		public List<TerminalNode> LPAR() { return getTokens(FunctionCraftParser.LPAR); }
 		public TerminalNode LPAR(int i) {
@@ -983,6 +1010,12 @@ public class FunctionCraftParser extends Parser {
 		public ExpressionContext expression(int i) {
 			return getRuleContext(ExpressionContext.class,i);
 		}
+		public List<ConditionContext> condition() {
+			return getRuleContexts(ConditionContext.class);
+		}
+		public ConditionContext condition(int i) {
+			return getRuleContext(ConditionContext.class,i);
+		}
 		public List<TerminalNode> AND() { return getTokens(FunctionCraftParser.AND); }
 		public TerminalNode AND(int i) {
 			return getToken(FunctionCraftParser.AND, i);
@@ -991,12 +1024,6 @@ public class FunctionCraftParser extends Parser {
 		public TerminalNode OR(int i) {
 			return getToken(FunctionCraftParser.OR, i);
 		}
-		public List<ConditionContext> condition() {
-			return getRuleContexts(ConditionContext.class);
-		}
-		public ConditionContext condition(int i) {
-			return getRuleContext(ConditionContext.class,i);
-		}
 		public ConditionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1026,59 +1053,98 @@ public class FunctionCraftParser extends Parser {
 			{
 
 			        ((ConditionContext)_localctx).conditionRet =  new ArrayList<Expression>();
+			        ((ConditionContext)_localctx).operands =  new ArrayList<Expression>();
+			        ((ConditionContext)_localctx).connectives =  new ArrayList<BinaryOperator>();
 			    
-			setState(237);
+			setState(245);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
 					setState(217);
 					match(LPAR);
-					setState(218);
-					((ConditionContext)_localctx).e = expression(0);
-					_localctx.conditionRet.add(((ConditionContext)_localctx).e.expRet);
-					setState(220);
+					setState(224);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+					case 1:
+						{
+						setState(218);
+						((ConditionContext)_localctx).e = expression(0);
+
+						        if (!_localctx.operands.isEmpty())
+						            _localctx.connectives.add(BinaryOperator.AND);
+						        _localctx.operands.add(((ConditionContext)_localctx).e.expRet);
+						     
+						}
+						break;
+					case 2:
+						{
+						setState(221);
+						((ConditionContext)_localctx).g = condition();
+
+						        if (!((ConditionContext)_localctx).g.conditionRet.isEmpty()) {
+						            if (!_localctx.operands.isEmpty())
+						                _localctx.connectives.add(BinaryOperator.AND);
+						            _localctx.operands.add(((ConditionContext)_localctx).g.conditionRet.get(0));
+						        }
+						     
+						}
+						break;
+					}
+					setState(226);
 					match(RPAR);
-					setState(232);
+					setState(240);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(221);
+							setState(227);
+							((ConditionContext)_localctx).op = _input.LT(1);
 							_la = _input.LA(1);
 							if ( !(_la==AND || _la==OR) ) {
-							_errHandler.recoverInline(this);
+								((ConditionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 							}
 							else {
 								if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 								_errHandler.reportMatch(this);
 								consume();
 							}
-							setState(223);
+							((ConditionContext)_localctx).grouped =  false;
+							setState(231);
 							_errHandler.sync(this);
-							switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+							switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
 							case 1:
 								{
-								setState(222);
+								setState(229);
 								match(LPAR);
+								((ConditionContext)_localctx).grouped =  true;
 								}
 								break;
 							}
-							setState(225);
+							setState(233);
 							((ConditionContext)_localctx).c = condition();
 
-							        _localctx.conditionRet.addAll(((ConditionContext)_localctx).c.conditionRet);
+							        // a parenthesized group is one operand; otherwise precedence spans both parts
+							        if (_localctx.grouped && !((ConditionContext)_localctx).c.conditionRet.isEmpty()) {
+							            _localctx.connectives.add((((ConditionContext)_localctx).op!=null?((ConditionContext)_localctx).op.getType():0) == AND ? BinaryOperator.AND : BinaryOperator.OR);
+							            _localctx.operands.add(((ConditionContext)_localctx).c.conditionRet.get(0));
+							        }
+							        else if (!((ConditionContext)_localctx).c.operands.isEmpty()) {
+							            _localctx.connectives.add((((ConditionContext)_localctx).op!=null?((ConditionContext)_localctx).op.getType():0) == AND ? BinaryOperator.AND : BinaryOperator.OR);
+							            _localctx.operands.addAll(((ConditionContext)_localctx).c.operands);
+							            _localctx.connectives.addAll(((ConditionContext)_localctx).c.connectives);
+							        }
 							     
-							setState(228);
+							setState(236);
 							_errHandler.sync(this);
-							switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
+							switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
 							case 1:
 								{
-								setState(227);
+								setState(235);
 								match(RPAR);
 								}
 								break;
@@ -1086,17 +1152,21 @@ public class FunctionCraftParser extends Parser {
 							}
 							} 
 						}
-						setState(234);
+						setState(242);
 						_errHandler.sync(this);
-						_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+						_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 					}
 					}
 					} 
 				}
-				setState(239);
+				setState(247);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
 			}
+
+			        if (!_localctx.operands.isEmpty())
+			            _localctx.conditionRet.add(connect(_localctx.operands, _localctx.connectives));
+			    
 			}
 		}
 		catch (RecognitionException re) {
@@ -1147,19 +1217,19 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(240);
+			setState(250);
 			((PutsStatementContext)_localctx).p = match(PUTS);
-			setState(241);
+			setState(251);
 			match(LPAR);
-			setState(242);
+			setState(252);
 			((PutsStatementContext)_localctx).e = expression(0);
 
 			        ((PutsStatementContext)_localctx).putRet =  new PutStatement(((PutsStatementContext)_localctx).e.expRet);
 			        _localctx.putRet.setLine((((PutsStatementContext)_localctx).p!=null?((PutsStatementContext)_localctx).p.getLine():0));
 			    
-			setState(244);
+			setState(254);
 			match(RPAR);
-			setState(245);
+			setState(255);
 			match(SEMICOLLON);
 			}
 		}
@@ -1210,17 +1280,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(247);
+			setState(257);
 			((LenStatementContext)_localctx).l = match(LEN);
-			setState(248);
+			setState(258);
 			match(LPAR);
-			setState(249);
+			setState(259);
 			((LenStatementContext)_localctx).e = expression(0);
 
 			        ((LenStatementContext)_localctx).lenRet =  new LenStatement(((LenStatementContext)_localctx).e.expRet);
 			        _localctx.lenRet.setLine((((LenStatementContext)_localctx).l!=null?((LenStatementContext)_localctx).l.getLine():0));
 			    
-			setState(251);
+			setState(261);
 			match(RPAR);
 			}
 		}
@@ -1277,19 +1347,19 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(253);
+			setState(263);
 			((PushStatementContext)_localctx).p = match(PUSH);
-			setState(254);
+			setState(264);
 			match(LPAR);
-			setState(255);
+			setState(265);
 			((PushStatementContext)_localctx).e1 = expression(0);
-			setState(256);
+			setState(266);
 			match(COMMA);
-			setState(257);
+			setState(267);
 			((PushStatementContext)_localctx).e2 = expression(0);
-			setState(258);
+			setState(268);
 			match(RPAR);
-			setState(259);
+			setState(269);
 			match(SEMICOLLON);
 
 			        ((PushStatementContext)_localctx).pushRet =  new PushStatement(((PushStatementContext)_localctx).e1.expRet, ((PushStatementContext)_localctx).e2.expRet);
@@ -1344,17 +1414,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
+			setState(272);
 			((LoopDoStatementContext)_localctx).l1 = match(LOOP);
-			setState(263);
+			setState(273);
 			match(DO);
-			setState(264);
+			setState(274);
 			((LoopDoStatementContext)_localctx).l2 = loopBody();
 
 			        ((LoopDoStatementContext)_localctx).loopDoRet =  new LoopDoStatement(((LoopDoStatementContext)_localctx).l2.loopStmtsRet);
 			        _localctx.loopDoRet.setLine((((LoopDoStatementContext)_localctx).l1!=null?((LoopDoStatementContext)_localctx).l1.getLine():0));
 			    
-			setState(266);
+			setState(276);
 			match(END);
 			}
 		}
@@ -1436,12 +1506,12 @@ public class FunctionCraftParser extends Parser {
 
 			        ((LoopBodyContext)_localctx).loopStmtsRet =  new ArrayList<Statement>();
 			    
-			setState(294);
+			setState(304);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1150098203556918928L) != 0)) {
 				{
-				setState(292);
+				setState(302);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case PUTS:
@@ -1467,26 +1537,26 @@ public class FunctionCraftParser extends Parser {
 				case IDENTIFIER:
 				case STRING_VALUE:
 					{
-					setState(269);
+					setState(279);
 					((LoopBodyContext)_localctx).s = statement();
 					_localctx.loopStmtsRet.add(((LoopBodyContext)_localctx).s.stmtRet);
 					}
 					break;
 				case BREAK:
 					{
-					setState(272);
+					setState(282);
 					match(BREAK);
 
 					        BreakStatement b = new BreakStatement();
 					     
-					setState(278);
+					setState(288);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==IF) {
 						{
-						setState(274);
+						setState(284);
 						match(IF);
-						setState(275);
+						setState(285);
 						((LoopBodyContext)_localctx).c1 = condition();
 
 						        b.setConditions(((LoopBodyContext)_localctx).c1.conditionRet);
@@ -1495,25 +1565,25 @@ public class FunctionCraftParser extends Parser {
 					}
 
 					_localctx.loopStmtsRet.add(b);
-					setState(281);
+					setState(291);
 					match(SEMICOLLON);
 					}
 					break;
 				case NEXT:
 					{
-					setState(282);
+					setState(292);
 					match(NEXT);
 
 					        NextStatement n = new NextStatement();
 					    
-					setState(288);
+					setState(298);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==IF) {
 						{
-						setState(284);
+						setState(294);
 						match(IF);
-						setState(285);
+						setState(295);
 						((LoopBodyContext)_localctx).c2 = condition();
 
 						        n.setConditions(((LoopBodyContext)_localctx).c2.conditionRet);
@@ -1522,7 +1592,7 @@ public class FunctionCraftParser extends Parser {
 					}
 
 					_localctx.loopStmtsRet.add(n);
-					setState(291);
+					setState(301);
 					match(SEMICOLLON);
 					}
 					break;
@@ -1530,16 +1600,16 @@ public class FunctionCraftParser extends Parser {
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(296);
+				setState(306);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(300);
+			setState(310);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==RETURN) {
 				{
-				setState(297);
+				setState(307);
 				((LoopBodyContext)_localctx).r = returnStatement();
 				_localctx.loopStmtsRet.add(((LoopBodyContext)_localctx).r.returnStmtRet);
 				}
@@ -1600,17 +1670,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302);
+			setState(312);
 			((ForStatementContext)_localctx).f = match(FOR);
-			setState(303);
+			setState(313);
 			((ForStatementContext)_localctx).id = match(IDENTIFIER);
-			setState(304);
+			setState(314);
 			match(IN);
-			setState(305);
+			setState(315);
 			((ForStatementContext)_localctx).r = range();
-			setState(306);
+			setState(316);
 			((ForStatementContext)_localctx).l = loopBody();
-			setState(307);
+			setState(317);
 			match(END);
 
 			        ((ForStatementContext)_localctx).forStRet =  new ForStatement(new Identifier((((ForStatementContext)_localctx).id!=null?((ForStatementContext)_localctx).id.getText():null)), ((ForStatementContext)_localctx).r.rangeRet, ((ForStatementContext)_localctx).l.loopStmtsRet);
@@ -1686,19 +1756,19 @@ public class FunctionCraftParser extends Parser {
 			        RangeType rangeType;
 			        int line = 0;
 			    
-			setState(335);
+			setState(345);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LPAR:
 				{
 				{
-				setState(311);
+				setState(321);
 				match(LPAR);
-				setState(312);
+				setState(322);
 				((RangeContext)_localctx).e1 = expression(0);
-				setState(313);
+				setState(323);
 				((RangeContext)_localctx).DOUBLEDOT = match(DOUBLEDOT);
-				setState(314);
+				setState(324);
 				((RangeContext)_localctx).e2 = expression(0);
 
 				        exps.add(((RangeContext)_localctx).e1.expRet);
@@ -1706,7 +1776,7 @@ public class FunctionCraftParser extends Parser {
 				        rangeType = RangeType.DOUBLE_DOT;
 				        line = (((RangeContext)_localctx).DOUBLEDOT!=null?((RangeContext)_localctx).DOUBLEDOT.getLine():0);
 				    
-				setState(316);
+				setState(326);
 				match(RPAR);
 				}
 				}
@@ -1717,43 +1787,43 @@ public class FunctionCraftParser extends Parser {
 				        rangeType = RangeType.LIST;
 				    
 				{
-				setState(319);
+				setState(329);
 				((RangeContext)_localctx).LBRACK = match(LBRACK);
 				{
-				setState(320);
+				setState(330);
 				((RangeContext)_localctx).e3 = expression(0);
 
 				        exps.add(((RangeContext)_localctx).e3.expRet);
 				        line = (((RangeContext)_localctx).LBRACK!=null?((RangeContext)_localctx).LBRACK.getLine():0);
 				    
-				setState(328);
+				setState(338);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(322);
+					setState(332);
 					match(COMMA);
-					setState(323);
+					setState(333);
 					((RangeContext)_localctx).e4 = expression(0);
 
 					        exps.add(((RangeContext)_localctx).e4.expRet);
 					    
 					}
 					}
-					setState(330);
+					setState(340);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
-				setState(331);
+				setState(341);
 				match(RBRACK);
 				}
 				}
 				break;
 			case IDENTIFIER:
 				{
-				setState(333);
+				setState(343);
 				((RangeContext)_localctx).id = match(IDENTIFIER);
 
 				        Identifier id_ = new Identifier((((RangeContext)_localctx).id!=null?((RangeContext)_localctx).id.getText():null));
@@ -1823,17 +1893,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(339);
+			setState(349);
 			((MatchPatternStatementContext)_localctx).id = match(IDENTIFIER);
-			setState(340);
+			setState(350);
 			match(DOT);
-			setState(341);
+			setState(351);
 			((MatchPatternStatementContext)_localctx).m = match(MATCH);
-			setState(342);
+			setState(352);
 			match(LPAR);
-			setState(343);
+			setState(353);
 			((MatchPatternStatementContext)_localctx).e = expression(0);
-			setState(344);
+			setState(354);
 			match(RPAR);
 
 			        Identifier id_ = new Identifier((((MatchPatternStatementContext)_localctx).id!=null?((MatchPatternStatementContext)_localctx).id.getText():null));
@@ -1890,13 +1960,13 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(347);
+			setState(357);
 			((ChopStatementContext)_localctx).c = match(CHOP);
-			setState(348);
+			setState(358);
 			match(LPAR);
-			setState(349);
+			setState(359);
 			((ChopStatementContext)_localctx).e = expression(0);
-			setState(350);
+			setState(360);
 			match(RPAR);
 
 			        ((ChopStatementContext)_localctx).chopRet =  new ChopStatement(((ChopStatementContext)_localctx).e.expRet);
@@ -1951,13 +2021,13 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(353);
+			setState(363);
 			((ChompStatementContext)_localctx).c = match(CHOMP);
-			setState(354);
+			setState(364);
 			match(LPAR);
-			setState(355);
+			setState(365);
 			((ChompStatementContext)_localctx).e = expression(0);
-			setState(356);
+			setState(366);
 			match(RPAR);
 
 			        ((ChompStatementContext)_localctx).chompRet =  new ChompStatement(((ChompStatementContext)_localctx).e.expRet);
@@ -2033,60 +2103,60 @@ public class FunctionCraftParser extends Parser {
 			        int line;
 			        AssignOperator op;
 			    
-			setState(360);
+			setState(370);
 			((AssignmentContext)_localctx).id = match(IDENTIFIER);
-			setState(364);
+			setState(374);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LBRACK) {
 				{
-				setState(361);
+				setState(371);
 				((AssignmentContext)_localctx).a = accessList();
 				access = true;
 				}
 			}
 
-			setState(378);
+			setState(388);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ASSIGN:
 				{
-				setState(366);
+				setState(376);
 				((AssignmentContext)_localctx).as = match(ASSIGN);
 				op = AssignOperator.ASSIGN;line = (((AssignmentContext)_localctx).as!=null?((AssignmentContext)_localctx).as.getLine():0);
 				}
 				break;
 			case PLUS_ASSIGN:
 				{
-				setState(368);
+				setState(378);
 				((AssignmentContext)_localctx).pl = match(PLUS_ASSIGN);
 				op = AssignOperator.PLUS_ASSIGN;line = (((AssignmentContext)_localctx).pl!=null?((AssignmentContext)_localctx).pl.getLine():0);
 				}
 				break;
 			case MINUS_ASSIGN:
 				{
-				setState(370);
+				setState(380);
 				((AssignmentContext)_localctx).mi = match(MINUS_ASSIGN);
 				op = AssignOperator.MINUS_ASSIGN;line = (((AssignmentContext)_localctx).mi!=null?((AssignmentContext)_localctx).mi.getLine():0);
 				}
 				break;
 			case DIVIDE_ASSIGN:
 				{
-				setState(372);
+				setState(382);
 				((AssignmentContext)_localctx).di = match(DIVIDE_ASSIGN);
 				op = AssignOperator.DIVIDE_ASSIGN;line = (((AssignmentContext)_localctx).di!=null?((AssignmentContext)_localctx).di.getLine():0);
 				}
 				break;
 			case MULT_ASSIGN:
 				{
-				setState(374);
+				setState(384);
 				((AssignmentContext)_localctx).mu = match(MULT_ASSIGN);
 				op = AssignOperator.MULT_ASSIGN;line = (((AssignmentContext)_localctx).mu!=null?((AssignmentContext)_localctx).mu.getLine():0);
 				}
 				break;
 			case MOD_ASSIGN:
 				{
-				setState(376);
+				setState(386);
 				((AssignmentContext)_localctx).mo = match(MOD_ASSIGN);
 				op = AssignOperator.MOD_ASSIGN;line = (((AssignmentContext)_localctx).mo!=null?((AssignmentContext)_localctx).mo.getLine():0);
 				}
@@ -2094,9 +2164,9 @@ public class FunctionCraftParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(380);
+			setState(390);
 			((AssignmentContext)_localctx).e = expression(0);
-			setState(381);
+			setState(391);
 			match(SEMICOLLON);
 
 			          Identifier id_ = new Identifier((((AssignmentContext)_localctx).id!=null?((AssignmentContext)_localctx).id.getText():null));
@@ -2154,12 +2224,12 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(384);
+			setState(394);
 			match(LBRACK);
-			setState(385);
+			setState(395);
 			((AccessListContext)_localctx).e = expression(0);
 			((AccessListContext)_localctx).accessListExp =  ((AccessListContext)_localctx).e.expRet;
-			setState(387);
+			setState(397);
 			match(RBRACK);
 			}
 		}
@@ -2229,13 +2299,13 @@ public class FunctionCraftParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 42, RULE_statement);
 		try {
-			setState(412);
+			setState(422);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(389);
+				setState(399);
 				((StatementContext)_localctx).i = ifStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).i.ifRet;
 				}
@@ -2243,7 +2313,7 @@ public class FunctionCraftParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(392);
+				setState(402);
 				((StatementContext)_localctx).loop = loopDoStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).loop.loopDoRet;
 				}
@@ -2251,7 +2321,7 @@ public class FunctionCraftParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(395);
+				setState(405);
 				((StatementContext)_localctx).f = forStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).f.forStRet;
 				}
@@ -2259,7 +2329,7 @@ public class FunctionCraftParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(398);
+				setState(408);
 				((StatementContext)_localctx).puts = putsStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).puts.putRet;
 				}
@@ -2267,7 +2337,7 @@ public class FunctionCraftParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(401);
+				setState(411);
 				((StatementContext)_localctx).push = pushStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).push.pushRet;
 				}
@@ -2275,7 +2345,7 @@ public class FunctionCraftParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(404);
+				setState(414);
 				((StatementContext)_localctx).e = expression(0);
 				((StatementContext)_localctx).stmtRet =  new ExpressionStatement(((StatementContext)_localctx).e.expRet);
 
@@ -2283,14 +2353,14 @@ public class FunctionCraftParser extends Parser {
 				        ((StatementContext)_localctx).stmtRet =  expStmt;
 				        _localctx.stmtRet.setLine(((StatementContext)_localctx).e.expRet.getLine());
 				     
-				setState(407);
+				setState(417);
 				match(SEMICOLLON);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(409);
+				setState(419);
 				((StatementContext)_localctx).as = assignment();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).as.assignRet;
 				}
@@ -2351,27 +2421,27 @@ public class FunctionCraftParser extends Parser {
 
 			        ((BodyContext)_localctx).bodyRet =  new ArrayList<Statement>();
 			    
-			setState(420);
+			setState(430);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1150101502091802256L) != 0)) {
 				{
 				{
-				setState(415);
+				setState(425);
 				((BodyContext)_localctx).s = statement();
 				_localctx.bodyRet.add(((BodyContext)_localctx).s.stmtRet);
 				}
 				}
-				setState(422);
+				setState(432);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(426);
+			setState(436);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==RETURN) {
 				{
-				setState(423);
+				setState(433);
 				((BodyContext)_localctx).r = returnStatement();
 				_localctx.bodyRet.add(((BodyContext)_localctx).r.returnStmtRet);
 				}
@@ -2439,14 +2509,14 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(429);
+			setState(439);
 			((ExpressionContext)_localctx).e3 = eqaulityExpression();
 			((ExpressionContext)_localctx).expRet =  ((ExpressionContext)_localctx).e3.expRet;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(439);
+			setState(449);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2456,11 +2526,11 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new ExpressionContext(_parentctx, _parentState);
 					_localctx.e1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_expression);
-					setState(432);
+					setState(442);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-					setState(433);
+					setState(443);
 					((ExpressionContext)_localctx).a = match(APPEND);
-					setState(434);
+					setState(444);
 					((ExpressionContext)_localctx).e2 = eqaulityExpression();
 
 					                  if(!(((ExpressionContext)_localctx).e1.expRet instanceof AppendExpression)){
@@ -2476,9 +2546,9 @@ public class FunctionCraftParser extends Parser {
 					}
 					} 
 				}
-				setState(441);
+				setState(451);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			}
 			}
 		}
@@ -2532,31 +2602,31 @@ public class FunctionCraftParser extends Parser {
 		EqaulityExpressionContext _localctx = new EqaulityExpressionContext(_ctx, getState());
 		enterRule(_localctx, 48, RULE_eqaulityExpression);
 		try {
-			setState(456);
+			setState(466);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(442);
+				setState(452);
 				((EqaulityExpressionContext)_localctx).e1 = relationalExpression(0);
 
 				        BinaryOperator op;
 				        int line;
 				    
-				setState(448);
+				setState(458);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case EQUAL:
 					{
-					setState(444);
+					setState(454);
 					((EqaulityExpressionContext)_localctx).op1 = match(EQUAL);
 					op = BinaryOperator.EQUAL;line = (((EqaulityExpressionContext)_localctx).op1!=null?((EqaulityExpressionContext)_localctx).op1.getLine():0);
 					}
 					break;
 				case NOT_EQUAL:
 					{
-					setState(446);
+					setState(456);
 					((EqaulityExpressionContext)_localctx).op2 = match(NOT_EQUAL);
 					op = BinaryOperator.NOT_EQUAL;line = (((EqaulityExpressionContext)_localctx).op2!=null?((EqaulityExpressionContext)_localctx).op2.getLine():0);
 					}
@@ -2564,7 +2634,7 @@ public class FunctionCraftParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(450);
+				setState(460);
 				((EqaulityExpressionContext)_localctx).r1 = relationalExpression(0);
 				((EqaulityExpressionContext)_localctx).expRet =  new BinaryExpression(((EqaulityExpressionContext)_localctx).e1.expRet, ((EqaulityExpressionContext)_localctx).r1.expRet, op);_localctx.expRet.setLine(line);
 				}
@@ -2572,7 +2642,7 @@ public class FunctionCraftParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(453);
+				setState(463);
 				((EqaulityExpressionContext)_localctx).r2 = relationalExpression(0);
 				((EqaulityExpressionContext)_localctx).expRet =  ((EqaulityExpressionContext)_localctx).r2.expRet;
 				}
@@ -2645,14 +2715,14 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(459);
+			setState(469);
 			((RelationalExpressionContext)_localctx).a2 = additiveExpression(0);
 			((RelationalExpressionContext)_localctx).expRet =  ((RelationalExpressionContext)_localctx).a2.expRet;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(479);
+			setState(489);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2662,39 +2732,39 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new RelationalExpressionContext(_parentctx, _parentState);
 					_localctx.r1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
-					setState(462);
+					setState(472);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
 
 					                  BinaryOperator op;
 					                  int line;
 					              
-					setState(472);
+					setState(482);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case GREATER_THAN:
 						{
-						setState(464);
+						setState(474);
 						((RelationalExpressionContext)_localctx).gt = match(GREATER_THAN);
 						op = BinaryOperator.GREATER_THAN;line = (((RelationalExpressionContext)_localctx).gt!=null?((RelationalExpressionContext)_localctx).gt.getLine():0);
 						}
 						break;
 					case LESS_THAN:
 						{
-						setState(466);
+						setState(476);
 						((RelationalExpressionContext)_localctx).lt = match(LESS_THAN);
 						op = BinaryOperator.LESS_THAN;line = (((RelationalExpressionContext)_localctx).lt!=null?((RelationalExpressionContext)_localctx).lt.getLine():0);
 						}
 						break;
 					case LESS_EQUAL_THAN:
 						{
-						setState(468);
+						setState(478);
 						((RelationalExpressionContext)_localctx).let = match(LESS_EQUAL_THAN);
 						op = BinaryOperator.LESS_EQUAL_THAN;line = (((RelationalExpressionContext)_localctx).let!=null?((RelationalExpressionContext)_localctx).let.getLine():0);
 						}
 						break;
 					case GREATER_EQUAL_THAN:
 						{
-						setState(470);
+						setState(480);
 						((RelationalExpressionContext)_localctx).get = match(GREATER_EQUAL_THAN);
 						op = BinaryOperator.GREATER_EQUAL_THAN;line = (((RelationalExpressionContext)_localctx).get!=null?((RelationalExpressionContext)_localctx).get.getLine():0);
 						}
@@ -2702,15 +2772,15 @@ public class FunctionCraftParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(474);
+					setState(484);
 					((RelationalExpressionContext)_localctx).a1 = additiveExpression(0);
 					((RelationalExpressionContext)_localctx).expRet =  new BinaryExpression(((RelationalExpressionContext)_localctx).r1.expRet, ((RelationalExpressionContext)_localctx).a1.expRet, op);_localctx.expRet.setLine(line);
 					}
 					} 
 				}
-				setState(481);
+				setState(491);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
 			}
 			}
 		}
@@ -2776,16 +2846,16 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(483);
+			setState(493);
 			((AdditiveExpressionContext)_localctx).m2 = multiplicativeExpression(0);
 
 			        ((AdditiveExpressionContext)_localctx).expRet =  ((AdditiveExpressionContext)_localctx).m2.expRet;
 			    
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(499);
+			setState(509);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2795,25 +2865,25 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new AdditiveExpressionContext(_parentctx, _parentState);
 					_localctx.a1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_additiveExpression);
-					setState(486);
+					setState(496);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
 
 					                      BinaryOperator op;
 					                      int line;
 					              
-					setState(492);
+					setState(502);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case PLUS:
 						{
-						setState(488);
+						setState(498);
 						((AdditiveExpressionContext)_localctx).p = match(PLUS);
 						op = BinaryOperator.PLUS;line = (((AdditiveExpressionContext)_localctx).p!=null?((AdditiveExpressionContext)_localctx).p.getLine():0);
 						}
 						break;
 					case MINUS:
 						{
-						setState(490);
+						setState(500);
 						((AdditiveExpressionContext)_localctx).m = match(MINUS);
 						op = BinaryOperator.MINUS;line = (((AdditiveExpressionContext)_localctx).m!=null?((AdditiveExpressionContext)_localctx).m.getLine():0);
 						}
@@ -2821,15 +2891,15 @@ public class FunctionCraftParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(494);
+					setState(504);
 					((AdditiveExpressionContext)_localctx).m1 = multiplicativeExpression(0);
 					((AdditiveExpressionContext)_localctx).expRet =  new BinaryExpression(((AdditiveExpressionContext)_localctx).a1.expRet, ((AdditiveExpressionContext)_localctx).m1.expRet, op);_localctx.expRet.setLine(line);
 					}
 					} 
 				}
-				setState(501);
+				setState(511);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
 			}
 			}
 		}
@@ -2895,14 +2965,14 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(503);
+			setState(513);
 			((MultiplicativeExpressionContext)_localctx).p2 = preUnaryExpression();
 			((MultiplicativeExpressionContext)_localctx).expRet =  ((MultiplicativeExpressionContext)_localctx).p2.expRet;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(519);
+			setState(529);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2912,25 +2982,25 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
 					_localctx.m1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
-					setState(506);
+					setState(516);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
 
 					                      BinaryOperator op;
 					                      int line;
 					              
-					setState(512);
+					setState(522);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case MULT:
 						{
-						setState(508);
+						setState(518);
 						((MultiplicativeExpressionContext)_localctx).m = match(MULT);
 						op = BinaryOperator.MULT;line = (((MultiplicativeExpressionContext)_localctx).m!=null?((MultiplicativeExpressionContext)_localctx).m.getLine():0);
 						}
 						break;
 					case DIVIDE:
 						{
-						setState(510);
+						setState(520);
 						((MultiplicativeExpressionContext)_localctx).d = match(DIVIDE);
 						op = BinaryOperator.DIVIDE;line = (((MultiplicativeExpressionContext)_localctx).d!=null?((MultiplicativeExpressionContext)_localctx).d.getLine():0);
 						}
@@ -2938,15 +3008,15 @@ public class FunctionCraftParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(514);
+					setState(524);
 					((MultiplicativeExpressionContext)_localctx).p1 = preUnaryExpression();
 					((MultiplicativeExpressionContext)_localctx).expRet =  new BinaryExpression(((MultiplicativeExpressionContext)_localctx).m1.expRet, ((MultiplicativeExpressionContext)_localctx).p1.expRet, op);_localctx.expRet.setLine(line);
 					}
 					} 
 				}
-				setState(521);
+				setState(531);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			}
 			}
 		}
@@ -3000,7 +3070,7 @@ public class FunctionCraftParser extends Parser {
 		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
 		enterRule(_localctx, 56, RULE_preUnaryExpression);
 		try {
-			setState(539);
+			setState(549);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case MINUS:
@@ -3013,33 +3083,33 @@ public class FunctionCraftParser extends Parser {
 				        UnaryOperator op;
 				        int line;
 				    
-				setState(531);
+				setState(541);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case NOT:
 					{
-					setState(523);
+					setState(533);
 					((PreUnaryExpressionContext)_localctx).n = match(NOT);
 					op = UnaryOperator.NOT;line = (((PreUnaryExpressionContext)_localctx).n!=null?((PreUnaryExpressionContext)_localctx).n.getLine():0);
 					}
 					break;
 				case MINUS:
 					{
-					setState(525);
+					setState(535);
 					((PreUnaryExpressionContext)_localctx).m = match(MINUS);
 					op = UnaryOperator.MINUS;line = (((PreUnaryExpressionContext)_localctx).m!=null?((PreUnaryExpressionContext)_localctx).m.getLine():0);
 					}
 					break;
 				case INCREMENT:
 					{
-					setState(527);
+					setState(537);
 					((PreUnaryExpressionContext)_localctx).i = match(INCREMENT);
 					op = UnaryOperator.INC;line = (((PreUnaryExpressionContext)_localctx).i!=null?((PreUnaryExpressionContext)_localctx).i.getLine():0);
 					}
 					break;
 				case DECREMENT:
 					{
-					setState(529);
+					setState(539);
 					((PreUnaryExpressionContext)_localctx).d = match(DECREMENT);
 					op = UnaryOperator.DEC;line = (((PreUnaryExpressionContext)_localctx).d!=null?((PreUnaryExpressionContext)_localctx).d.getLine():0);
 					}
@@ -3047,7 +3117,7 @@ public class FunctionCraftParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(533);
+				setState(543);
 				((PreUnaryExpressionContext)_localctx).a1 = accessExpression();
 				((PreUnaryExpressionContext)_localctx).expRet =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).a1.expRet, op);_localctx.expRet.setLine(line);
 				}
@@ -3067,7 +3137,7 @@ public class FunctionCraftParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(536);
+				setState(546);
 				((PreUnaryExpressionContext)_localctx).a2 = accessExpression();
 				((PreUnaryExpressionContext)_localctx).expRet =  ((PreUnaryExpressionContext)_localctx).a2.expRet;
 				}
@@ -3149,41 +3219,41 @@ public class FunctionCraftParser extends Parser {
 			        ArrayList<Expression> args = new ArrayList<Expression>();
 			        ArrayList<Expression> dimentions = new ArrayList<Expression>();
 			    
-			setState(542);
+			setState(552);
 			((AccessExpressionContext)_localctx).o = otherExpression();
-			setState(550);
+			setState(560);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(543);
+					setState(553);
 					match(LPAR);
-					setState(544);
+					setState(554);
 					((AccessExpressionContext)_localctx).f = functionArguments();
 
 					        isAccessExpression = true;
 					        isFunctionCall =true;
 					        args.addAll(((AccessExpressionContext)_localctx).f.funcArgsRet);
 					    
-					setState(546);
+					setState(556);
 					match(RPAR);
 					}
 					} 
 				}
-				setState(552);
+				setState(562);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			}
-			setState(558);
+			setState(568);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(553);
+					setState(563);
 					((AccessExpressionContext)_localctx).a = accessList();
 
 					        isMultiDimentional = true;
@@ -3193,9 +3263,9 @@ public class FunctionCraftParser extends Parser {
 					}
 					} 
 				}
-				setState(560);
+				setState(570);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			}
 
 			        if(!isAccessExpression){
@@ -3285,13 +3355,13 @@ public class FunctionCraftParser extends Parser {
 		enterRule(_localctx, 60, RULE_otherExpression);
 		int _la;
 		try {
-			setState(590);
+			setState(600);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(563);
+				setState(573);
 				((OtherExpressionContext)_localctx).v = values();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).v.valRet;
 				}
@@ -3299,7 +3369,7 @@ public class FunctionCraftParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(566);
+				setState(576);
 				((OtherExpressionContext)_localctx).id = match(IDENTIFIER);
 
 				        ((OtherExpressionContext)_localctx).expRet =  new Identifier((((OtherExpressionContext)_localctx).id!=null?((OtherExpressionContext)_localctx).id.getText():null));
@@ -3310,7 +3380,7 @@ public class FunctionCraftParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(568);
+				setState(578);
 				((OtherExpressionContext)_localctx).lambda = lambdaFunction();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).lambda.lambdaRet;
 				}
@@ -3318,7 +3388,7 @@ public class FunctionCraftParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(571);
+				setState(581);
 				((OtherExpressionContext)_localctx).chop = chopStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).chop.chopRet;
 				}
@@ -3326,7 +3396,7 @@ public class FunctionCraftParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(574);
+				setState(584);
 				((OtherExpressionContext)_localctx).chomp = chompStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).chomp.chompRet;
 				}
@@ -3334,7 +3404,7 @@ public class FunctionCraftParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(577);
+				setState(587);
 				((OtherExpressionContext)_localctx).match = matchPatternStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).match.matchPatRet;
 				}
@@ -3342,7 +3412,7 @@ public class FunctionCraftParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(580);
+				setState(590);
 				((OtherExpressionContext)_localctx).len_ = lenStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).len_.lenRet;
 				}
@@ -3350,20 +3420,20 @@ public class FunctionCraftParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(583);
+				setState(593);
 				match(LPAR);
-				setState(587);
+				setState(597);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1150101502091851712L) != 0)) {
 					{
-					setState(584);
+					setState(594);
 					((OtherExpressionContext)_localctx).e = expression(0);
 					((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).e.expRet;
 					}
 				}
 
-				setState(589);
+				setState(599);
 				match(RPAR);
 				}
 				break;
@@ -3420,15 +3490,15 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(592);
+			setState(602);
 			((LambdaFunctionContext)_localctx).a = match(ARROW);
-			setState(593);
+			setState(603);
 			((LambdaFunctionContext)_localctx).fd = functionArgumentsDeclaration();
-			setState(594);
+			setState(604);
 			match(LBRACE);
-			setState(595);
+			setState(605);
 			((LambdaFunctionContext)_localctx).b = body();
-			setState(596);
+			setState(606);
 			match(RBRACE);
 
 			        ((LambdaFunctionContext)_localctx).lambdaRet =  new LambdaExpression(((LambdaFunctionContext)_localctx).fd.argRet, ((LambdaFunctionContext)_localctx).b.bodyRet);
@@ -3491,14 +3561,14 @@ public class FunctionCraftParser extends Parser {
 		ValuesContext _localctx = new ValuesContext(_ctx, getState());
 		enterRule(_localctx, 64, RULE_values);
 		try {
-			setState(614);
+			setState(624);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 			case FALSE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(599);
+				setState(609);
 				((ValuesContext)_localctx).b = boolValue();
 				((ValuesContext)_localctx).valRet =  ((ValuesContext)_localctx).b.boolValRet;
 				}
@@ -3506,7 +3576,7 @@ public class FunctionCraftParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(602);
+				setState(612);
 				((ValuesContext)_localctx).s = match(STRING_VALUE);
 				((ValuesContext)_localctx).valRet =  new StringValue((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getText():null)); _localctx.valRet.setLine((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getLine():0));
 				}
@@ -3514,7 +3584,7 @@ public class FunctionCraftParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(604);
+				setState(614);
 				((ValuesContext)_localctx).i = match(INT_VALUE);
 				((ValuesContext)_localctx).valRet =  new IntValue((((ValuesContext)_localctx).i!=null?Integer.valueOf(((ValuesContext)_localctx).i.getText()):0));_localctx.valRet.setLine((((ValuesContext)_localctx).i!=null?((ValuesContext)_localctx).i.getLine():0));
 				}
@@ -3522,7 +3592,7 @@ public class FunctionCraftParser extends Parser {
 			case FLOAT_VALUE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(606);
+				setState(616);
 				((ValuesContext)_localctx).float_ = match(FLOAT_VALUE);
 				((ValuesContext)_localctx).valRet =  new FloatValue(Float.parseFloat((((ValuesContext)_localctx).float_!=null?((ValuesContext)_localctx).float_.getText():null)));_localctx.valRet.setLine((((ValuesContext)_localctx).float_!=null?((ValuesContext)_localctx).float_.getLine():0));
 				}
@@ -3530,7 +3600,7 @@ public class FunctionCraftParser extends Parser {
 			case LBRACK:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(608);
+				setState(618);
 				((ValuesContext)_localctx).l = listValue();
 				((ValuesContext)_localctx).valRet =  ((ValuesContext)_localctx).l.listValRet;
 				}
@@ -3538,7 +3608,7 @@ public class FunctionCraftParser extends Parser {
 			case METHOD:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(611);
+				setState(621);
 				((ValuesContext)_localctx).f = functionPointer();
 				((ValuesContext)_localctx).valRet =  ((ValuesContext)_localctx).f.fpRet;
 				}
@@ -3593,11 +3663,11 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(616);
+			setState(626);
 			((ListValueContext)_localctx).l = match(LBRACK);
-			setState(617);
+			setState(627);
 			((ListValueContext)_localctx).f = functionArguments();
-			setState(618);
+			setState(628);
 			match(RBRACK);
 
 			        ((ListValueContext)_localctx).listValRet =  new ListValue(((ListValueContext)_localctx).f.funcArgsRet);
@@ -3646,13 +3716,13 @@ public class FunctionCraftParser extends Parser {
 		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
 		enterRule(_localctx, 68, RULE_boolValue);
 		try {
-			setState(625);
+			setState(635);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(621);
+				setState(631);
 				((BoolValueContext)_localctx).t = match(TRUE);
 				((BoolValueContext)_localctx).boolValRet =  new BoolValue(true); _localctx.boolValRet.setLine((((BoolValueContext)_localctx).t!=null?((BoolValueContext)_localctx).t.getLine():0));
 				}
@@ -3660,7 +3730,7 @@ public class FunctionCraftParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(623);
+				setState(633);
 				((BoolValueContext)_localctx).f = match(FALSE);
 				((BoolValueContext)_localctx).boolValRet =  new BoolValue(false); _localctx.boolValRet.setLine((((BoolValueContext)_localctx).f!=null?((BoolValueContext)_localctx).f.getLine():0));
 				}
@@ -3715,15 +3785,15 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(627);
+			setState(637);
 			((FunctionPointerContext)_localctx).m = match(METHOD);
-			setState(628);
+			setState(638);
 			match(LPAR);
-			setState(629);
+			setState(639);
 			match(COLON);
-			setState(630);
+			setState(640);
 			((FunctionPointerContext)_localctx).id = match(IDENTIFIER);
-			setState(631);
+			setState(641);
 			match(RPAR);
 
 			        Identifier id_ = new Identifier((((FunctionPointerContext)_localctx).id!=null?((FunctionPointerContext)_localctx).id.getText():null));
@@ -3787,7 +3857,7 @@ public class FunctionCraftParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001A\u027b\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001A\u0285\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3822,87 +3892,88 @@ public class FunctionCraftParser extends Parser {
 		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00cd\b\u0007\u0001"+
 		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003"+
 		"\u0007\u00d5\b\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0003\b\u00e0\b\b\u0001\b\u0001\b\u0001\b\u0003"+
-		"\b\u00e5\b\b\u0005\b\u00e7\b\b\n\b\f\b\u00ea\t\b\u0005\b\u00ec\b\b\n\b"+
-		"\f\b\u00ef\t\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t"+
-		"\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0003\b\u00e1\b\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0003\b\u00e8\b\b\u0001\b\u0001\b\u0001\b\u0003\b\u00ed"+
+		"\b\b\u0005\b\u00ef\b\b\n\b\f\b\u00f2\t\b\u0005\b\u00f4\b\b\n\b\f\b\u00f7"+
+		"\t\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
 		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
 		"\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001"+
 		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003"+
-		"\r\u0117\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0003\r\u0121\b\r\u0001\r\u0001\r\u0005\r\u0125\b\r\n\r\f\r\u0128\t"+
-		"\r\u0001\r\u0001\r\u0001\r\u0003\r\u012d\b\r\u0001\u000e\u0001\u000e\u0001"+
+		"\r\u0121\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0003\r\u012b\b\r\u0001\r\u0001\r\u0005\r\u012f\b\r\n\r\f\r\u0132\t"+
+		"\r\u0001\r\u0001\r\u0001\r\u0003\r\u0137\b\r\u0001\u000e\u0001\u000e\u0001"+
 		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
 		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
 		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u0147\b\u000f\n"+
-		"\u000f\f\u000f\u014a\t\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0003\u000f\u0150\b\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u0151\b\u000f\n"+
+		"\u000f\f\u000f\u0154\t\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0003\u000f\u015a\b\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001"+
 		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
 		"\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
 		"\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
 		"\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003"+
-		"\u0013\u016d\b\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0013\u0177\b\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
 		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0003\u0013\u017b\b\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0013\u0001\u0013\u0003\u0013\u0185\b\u0013\u0001\u0013\u0001\u0013\u0001"+
 		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
 		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
 		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
 		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
 		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0003"+
-		"\u0015\u019d\b\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0005"+
-		"\u0016\u01a3\b\u0016\n\u0016\f\u0016\u01a6\t\u0016\u0001\u0016\u0001\u0016"+
-		"\u0001\u0016\u0003\u0016\u01ab\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0015\u01a7\b\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0005"+
+		"\u0016\u01ad\b\u0016\n\u0016\f\u0016\u01b0\t\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0003\u0016\u01b5\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017"+
 		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
-		"\u0005\u0017\u01b6\b\u0017\n\u0017\f\u0017\u01b9\t\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u01c1"+
+		"\u0005\u0017\u01c0\b\u0017\n\u0017\f\u0017\u01c3\t\u0017\u0001\u0018\u0001"+
+		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u01cb"+
 		"\b\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
-		"\u0018\u0003\u0018\u01c9\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u0018\u0003\u0018\u01d3\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
 		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
-		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019\u01d9"+
-		"\b\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0005\u0019\u01de\b\u0019"+
-		"\n\u0019\f\u0019\u01e1\t\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019\u01e3"+
+		"\b\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0005\u0019\u01e8\b\u0019"+
+		"\n\u0019\f\u0019\u01eb\t\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
 		"\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
-		"\u001a\u0003\u001a\u01ed\b\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005"+
-		"\u001a\u01f2\b\u001a\n\u001a\f\u001a\u01f5\t\u001a\u0001\u001b\u0001\u001b"+
+		"\u001a\u0003\u001a\u01f7\b\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005"+
+		"\u001a\u01fc\b\u001a\n\u001a\f\u001a\u01ff\t\u001a\u0001\u001b\u0001\u001b"+
 		"\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0001\u001b\u0003\u001b\u0201\b\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0005\u001b\u0206\b\u001b\n\u001b\f\u001b\u0209\t\u001b\u0001"+
+		"\u0001\u001b\u0001\u001b\u0003\u001b\u020b\b\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0005\u001b\u0210\b\u001b\n\u001b\f\u001b\u0213\t\u001b\u0001"+
 		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001"+
-		"\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0214\b\u001c\u0001\u001c\u0001"+
-		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u021c"+
+		"\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u021e\b\u001c\u0001\u001c\u0001"+
+		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0226"+
 		"\b\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
-		"\u001d\u0001\u001d\u0005\u001d\u0225\b\u001d\n\u001d\f\u001d\u0228\t\u001d"+
-		"\u0001\u001d\u0001\u001d\u0001\u001d\u0005\u001d\u022d\b\u001d\n\u001d"+
-		"\f\u001d\u0230\t\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e"+
+		"\u001d\u0001\u001d\u0005\u001d\u022f\b\u001d\n\u001d\f\u001d\u0232\t\u001d"+
+		"\u0001\u001d\u0001\u001d\u0001\u001d\u0005\u001d\u0237\b\u001d\n\u001d"+
+		"\f\u001d\u023a\t\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e"+
 		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
 		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
 		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
-		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0003\u001e\u024c\b\u001e"+
-		"\u0001\u001e\u0003\u001e\u024f\b\u001e\u0001\u001f\u0001\u001f\u0001\u001f"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0003\u001e\u0256\b\u001e"+
+		"\u0001\u001e\u0003\u001e\u0259\b\u001e\u0001\u001f\u0001\u001f\u0001\u001f"+
 		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 "+
 		"\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001"+
-		" \u0001 \u0001 \u0003 \u0267\b \u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
-		"\"\u0001\"\u0001\"\u0001\"\u0003\"\u0272\b\"\u0001#\u0001#\u0001#\u0001"+
+		" \u0001 \u0001 \u0003 \u0271\b \u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0003\"\u027c\b\"\u0001#\u0001#\u0001#\u0001"+
 		"#\u0001#\u0001#\u0001#\u0001#\u0000\u0004.246$\u0000\u0002\u0004\u0006"+
 		"\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,."+
-		"02468:<>@BDF\u0000\u0001\u0001\u0000\u001e\u001f\u029c\u0000H\u0001\u0000"+
+		"02468:<>@BDF\u0000\u0001\u0001\u0000\u001e\u001f\u02a7\u0000H\u0001\u0000"+
 		"\u0000\u0000\u0002W\u0001\u0000\u0000\u0000\u0004b\u0001\u0000\u0000\u0000"+
 		"\u0006\u0089\u0001\u0000\u0000\u0000\b\u009f\u0001\u0000\u0000\u0000\n"+
 		"\u00a9\u0001\u0000\u0000\u0000\f\u00b7\u0001\u0000\u0000\u0000\u000e\u00c1"+
-		"\u0001\u0000\u0000\u0000\u0010\u00d8\u0001\u0000\u0000\u0000\u0012\u00f0"+
-		"\u0001\u0000\u0000\u0000\u0014\u00f7\u0001\u0000\u0000\u0000\u0016\u00fd"+
-		"\u0001\u0000\u0000\u0000\u0018\u0106\u0001\u0000\u0000\u0000\u001a\u010c"+
-		"\u0001\u0000\u0000\u0000\u001c\u012e\u0001\u0000\u0000\u0000\u001e\u0136"+
-		"\u0001\u0000\u0000\u0000 \u0153\u0001\u0000\u0000\u0000\"\u015b\u0001"+
-		"\u0000\u0000\u0000$\u0161\u0001\u0000\u0000\u0000&\u0167\u0001\u0000\u0000"+
-		"\u0000(\u0180\u0001\u0000\u0000\u0000*\u019c\u0001\u0000\u0000\u0000,"+
-		"\u019e\u0001\u0000\u0000\u0000.\u01ac\u0001\u0000\u0000\u00000\u01c8\u0001"+
-		"\u0000\u0000\u00002\u01ca\u0001\u0000\u0000\u00004\u01e2\u0001\u0000\u0000"+
-		"\u00006\u01f6\u0001\u0000\u0000\u00008\u021b\u0001\u0000\u0000\u0000:"+
-		"\u021d\u0001\u0000\u0000\u0000<\u024e\u0001\u0000\u0000\u0000>\u0250\u0001"+
-		"\u0000\u0000\u0000@\u0266\u0001\u0000\u0000\u0000B\u0268\u0001\u0000\u0000"+
-		"\u0000D\u0271\u0001\u0000\u0000\u0000F\u0273\u0001\u0000\u0000\u0000H"+
+		"\u0001\u0000\u0000\u0000\u0010\u00d8\u0001\u0000\u0000\u0000\u0012\u00fa"+
+		"\u0001\u0000\u0000\u0000\u0014\u0101\u0001\u0000\u0000\u0000\u0016\u0107"+
+		"\u0001\u0000\u0000\u0000\u0018\u0110\u0001\u0000\u0000\u0000\u001a\u0116"+
+		"\u0001\u0000\u0000\u0000\u001c\u0138\u0001\u0000\u0000\u0000\u001e\u0140"+
+		"\u0001\u0000\u0000\u0000 \u015d\u0001\u0000\u0000\u0000\"\u0165\u0001"+
+		"\u0000\u0000\u0000$\u016b\u0001\u0000\u0000\u0000&\u0171\u0001\u0000\u0000"+
+		"\u0000(\u018a\u0001\u0000\u0000\u0000*\u01a6\u0001\u0000\u0000\u0000,"+
+		"\u01a8\u0001\u0000\u0000\u0000.\u01b6\u0001\u0000\u0000\u00000\u01d2\u0001"+
+		"\u0000\u0000\u00002\u01d4\u0001\u0000\u0000\u00004\u01ec\u0001\u0000\u0000"+
+		"\u00006\u0200\u0001\u0000\u0000\u00008\u0225\u0001\u0000\u0000\u0000:"+
+		"\u0227\u0001\u0000\u0000\u0000<\u0258\u0001\u0000\u0000\u0000>\u025a\u0001"+
+		"\u0000\u0000\u0000@\u0270\u0001\u0000\u0000\u0000B\u0272\u0001\u0000\u0000"+
+		"\u0000D\u027b\u0001\u0000\u0000\u0000F\u027d\u0001\u0000\u0000\u0000H"+
 		"Q\u0006\u0000\uffff\uffff\u0000IJ\u0003\u0002\u0001\u0000JK\u0006\u0000"+
 		"\uffff\uffff\u0000KP\u0001\u0000\u0000\u0000LM\u0003\u0006\u0003\u0000"+
 		"MN\u0006\u0000\uffff\uffff\u0000NP\u0001\u0000\u0000\u0000OI\u0001\u0000"+
@@ -3972,245 +4043,250 @@ public class FunctionCraftParser extends Parser {
 		"\r\u0000\u00d2\u00d3\u0006\u0007\uffff\uffff\u0000\u00d3\u00d5\u0001\u0000"+
 		"\u0000\u0000\u00d4\u00d0\u0001\u0000\u0000\u0000\u00d4\u00d5\u0001\u0000"+
 		"\u0000\u0000\u00d5\u00d6\u0001\u0000\u0000\u0000\u00d6\u00d7\u0005\u0002"+
-		"\u0000\u0000\u00d7\u000f\u0001\u0000\u0000\u0000\u00d8\u00ed\u0006\b\uffff"+
-		"\uffff\u0000\u00d9\u00da\u00051\u0000\u0000\u00da\u00db\u0003.\u0017\u0000"+
-		"\u00db\u00dc\u0006\b\uffff\uffff\u0000\u00dc\u00e8\u00052\u0000\u0000"+
-		"\u00dd\u00df\u0007\u0000\u0000\u0000\u00de\u00e0\u00051\u0000\u0000\u00df"+
-		"\u00de\u0001\u0000\u0000\u0000\u00df\u00e0\u0001\u0000\u0000\u0000\u00e0"+
-		"\u00e1\u0001\u0000\u0000\u0000\u00e1\u00e2\u0003\u0010\b\u0000\u00e2\u00e4"+
-		"\u0006\b\uffff\uffff\u0000\u00e3\u00e5\u00052\u0000\u0000\u00e4\u00e3"+
-		"\u0001\u0000\u0000\u0000\u00e4\u00e5\u0001\u0000\u0000\u0000\u00e5\u00e7"+
-		"\u0001\u0000\u0000\u0000\u00e6\u00dd\u0001\u0000\u0000\u0000\u00e7\u00ea"+
-		"\u0001\u0000\u0000\u0000\u00e8\u00e6\u0001\u0000\u0000\u0000\u00e8\u00e9"+
-		"\u0001\u0000\u0000\u0000\u00e9\u00ec\u0001\u0000\u0000\u0000\u00ea\u00e8"+
-		"\u0001\u0000\u0000\u0000\u00eb\u00d9\u0001\u0000\u0000\u0000\u00ec\u00ef"+
-		"\u0001\u0000\u0000\u0000\u00ed\u00eb\u0001\u0000\u0000\u0000\u00ed\u00ee"+
-		"\u0001\u0000\u0000\u0000\u00ee\u0011\u0001\u0000\u0000\u0000\u00ef\u00ed"+
-		"\u0001\u0000\u0000\u0000\u00f0\u00f1\u0005\u0004\u0000\u0000\u00f1\u00f2"+
-		"\u00051\u0000\u0000\u00f2\u00f3\u0003.\u0017\u0000\u00f3\u00f4\u0006\t"+
-		"\uffff\uffff\u0000\u00f4\u00f5\u00052\u0000\u0000\u00f5\u00f6\u0005;\u0000"+
-		"\u0000\u00f6\u0013\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005\u0006\u0000"+
-		"\u0000\u00f8\u00f9\u00051\u0000\u0000\u00f9\u00fa\u0003.\u0017\u0000\u00fa"+
-		"\u00fb\u0006\n\uffff\uffff\u0000\u00fb\u00fc\u00052\u0000\u0000\u00fc"+
-		"\u0015\u0001\u0000\u0000\u0000\u00fd\u00fe\u0005\u0005\u0000\u0000\u00fe"+
-		"\u00ff\u00051\u0000\u0000\u00ff\u0100\u0003.\u0017\u0000\u0100\u0101\u0005"+
-		"7\u0000\u0000\u0101\u0102\u0003.\u0017\u0000\u0102\u0103\u00052\u0000"+
-		"\u0000\u0103\u0104\u0005;\u0000\u0000\u0104\u0105\u0006\u000b\uffff\uffff"+
-		"\u0000\u0105\u0017\u0001\u0000\u0000\u0000\u0106\u0107\u0005\u000e\u0000"+
-		"\u0000\u0107\u0108\u0005\u0011\u0000\u0000\u0108\u0109\u0003\u001a\r\u0000"+
-		"\u0109\u010a\u0006\f\uffff\uffff\u0000\u010a\u010b\u0005\u0002\u0000\u0000"+
-		"\u010b\u0019\u0001\u0000\u0000\u0000\u010c\u0126\u0006\r\uffff\uffff\u0000"+
-		"\u010d\u010e\u0003*\u0015\u0000\u010e\u010f\u0006\r\uffff\uffff\u0000"+
-		"\u010f\u0125\u0001\u0000\u0000\u0000\u0110\u0111\u0005(\u0000\u0000\u0111"+
-		"\u0116\u0006\r\uffff\uffff\u0000\u0112\u0113\u0005\b\u0000\u0000\u0113"+
-		"\u0114\u0003\u0010\b\u0000\u0114\u0115\u0006\r\uffff\uffff\u0000\u0115"+
-		"\u0117\u0001\u0000\u0000\u0000\u0116\u0112\u0001\u0000\u0000\u0000\u0116"+
-		"\u0117\u0001\u0000\u0000\u0000\u0117\u0118\u0001\u0000\u0000\u0000\u0118"+
-		"\u0119\u0006\r\uffff\uffff\u0000\u0119\u0125\u0005;\u0000\u0000\u011a"+
-		"\u011b\u0005)\u0000\u0000\u011b\u0120\u0006\r\uffff\uffff\u0000\u011c"+
-		"\u011d\u0005\b\u0000\u0000\u011d\u011e\u0003\u0010\b\u0000\u011e\u011f"+
-		"\u0006\r\uffff\uffff\u0000\u011f\u0121\u0001\u0000\u0000\u0000\u0120\u011c"+
-		"\u0001\u0000\u0000\u0000\u0120\u0121\u0001\u0000\u0000\u0000\u0121\u0122"+
-		"\u0001\u0000\u0000\u0000\u0122\u0123\u0006\r\uffff\uffff\u0000\u0123\u0125"+
-		"\u0005;\u0000\u0000\u0124\u010d\u0001\u0000\u0000\u0000\u0124\u0110\u0001"+
-		"\u0000\u0000\u0000\u0124\u011a\u0001\u0000\u0000\u0000\u0125\u0128\u0001"+
-		"\u0000\u0000\u0000\u0126\u0124\u0001\u0000\u0000\u0000\u0126\u0127\u0001"+
-		"\u0000\u0000\u0000\u0127\u012c\u0001\u0000\u0000\u0000\u0128\u0126\u0001"+
-		"\u0000\u0000\u0000\u0129\u012a\u0003\f\u0006\u0000\u012a\u012b\u0006\r"+
-		"\uffff\uffff\u0000\u012b\u012d\u0001\u0000\u0000\u0000\u012c\u0129\u0001"+
-		"\u0000\u0000\u0000\u012c\u012d\u0001\u0000\u0000\u0000\u012d\u001b\u0001"+
-		"\u0000\u0000\u0000\u012e\u012f\u0005\u000f\u0000\u0000\u012f\u0130\u0005"+
-		">\u0000\u0000\u0130\u0131\u0005\u0010\u0000\u0000\u0131\u0132\u0003\u001e"+
-		"\u000f\u0000\u0132\u0133\u0003\u001a\r\u0000\u0133\u0134\u0005\u0002\u0000"+
-		"\u0000\u0134\u0135\u0006\u000e\uffff\uffff\u0000\u0135\u001d\u0001\u0000"+
-		"\u0000\u0000\u0136\u014f\u0006\u000f\uffff\uffff\u0000\u0137\u0138\u0005"+
-		"1\u0000\u0000\u0138\u0139\u0003.\u0017\u0000\u0139\u013a\u00059\u0000"+
-		"\u0000\u013a\u013b\u0003.\u0017\u0000\u013b\u013c\u0006\u000f\uffff\uffff"+
-		"\u0000\u013c\u013d\u00052\u0000\u0000\u013d\u0150\u0001\u0000\u0000\u0000"+
-		"\u013e\u013f\u0006\u000f\uffff\uffff\u0000\u013f\u0140\u00053\u0000\u0000"+
-		"\u0140\u0141\u0003.\u0017\u0000\u0141\u0148\u0006\u000f\uffff\uffff\u0000"+
-		"\u0142\u0143\u00057\u0000\u0000\u0143\u0144\u0003.\u0017\u0000\u0144\u0145"+
-		"\u0006\u000f\uffff\uffff\u0000\u0145\u0147\u0001\u0000\u0000\u0000\u0146"+
-		"\u0142\u0001\u0000\u0000\u0000\u0147\u014a\u0001\u0000\u0000\u0000\u0148"+
-		"\u0146\u0001\u0000\u0000\u0000\u0148\u0149\u0001\u0000\u0000\u0000\u0149"+
-		"\u014b\u0001\u0000\u0000\u0000\u014a\u0148\u0001\u0000\u0000\u0000\u014b"+
-		"\u014c\u00054\u0000\u0000\u014c\u0150\u0001\u0000\u0000\u0000\u014d\u014e"+
-		"\u0005>\u0000\u0000\u014e\u0150\u0006\u000f\uffff\uffff\u0000\u014f\u0137"+
-		"\u0001\u0000\u0000\u0000\u014f\u013e\u0001\u0000\u0000\u0000\u014f\u014d"+
-		"\u0001\u0000\u0000\u0000\u0150\u0151\u0001\u0000\u0000\u0000\u0151\u0152"+
-		"\u0006\u000f\uffff\uffff\u0000\u0152\u001f\u0001\u0000\u0000\u0000\u0153"+
-		"\u0154\u0005>\u0000\u0000\u0154\u0155\u00058\u0000\u0000\u0155\u0156\u0005"+
-		"\r\u0000\u0000\u0156\u0157\u00051\u0000\u0000\u0157\u0158\u0003.\u0017"+
-		"\u0000\u0158\u0159\u00052\u0000\u0000\u0159\u015a\u0006\u0010\uffff\uffff"+
-		"\u0000\u015a!\u0001\u0000\u0000\u0000\u015b\u015c\u0005\u0012\u0000\u0000"+
-		"\u015c\u015d\u00051\u0000\u0000\u015d\u015e\u0003.\u0017\u0000\u015e\u015f"+
-		"\u00052\u0000\u0000\u015f\u0160\u0006\u0011\uffff\uffff\u0000\u0160#\u0001"+
-		"\u0000\u0000\u0000\u0161\u0162\u0005\u0013\u0000\u0000\u0162\u0163\u0005"+
-		"1\u0000\u0000\u0163\u0164\u0003.\u0017\u0000\u0164\u0165\u00052\u0000"+
-		"\u0000\u0165\u0166\u0006\u0012\uffff\uffff\u0000\u0166%\u0001\u0000\u0000"+
-		"\u0000\u0167\u0168\u0006\u0013\uffff\uffff\u0000\u0168\u016c\u0005>\u0000"+
-		"\u0000\u0169\u016a\u0003(\u0014\u0000\u016a\u016b\u0006\u0013\uffff\uffff"+
-		"\u0000\u016b\u016d\u0001\u0000\u0000\u0000\u016c\u0169\u0001\u0000\u0000"+
-		"\u0000\u016c\u016d\u0001\u0000\u0000\u0000\u016d\u017a\u0001\u0000\u0000"+
-		"\u0000\u016e\u016f\u00050\u0000\u0000\u016f\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0170\u0171\u0005+\u0000\u0000\u0171\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0172\u0173\u0005,\u0000\u0000\u0173\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0174\u0175\u0005.\u0000\u0000\u0175\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0176\u0177\u0005-\u0000\u0000\u0177\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0178\u0179\u0005/\u0000\u0000\u0179\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u017a\u016e\u0001\u0000\u0000\u0000\u017a\u0170\u0001\u0000\u0000"+
-		"\u0000\u017a\u0172\u0001\u0000\u0000\u0000\u017a\u0174\u0001\u0000\u0000"+
-		"\u0000\u017a\u0176\u0001\u0000\u0000\u0000\u017a\u0178\u0001\u0000\u0000"+
-		"\u0000\u017b\u017c\u0001\u0000\u0000\u0000\u017c\u017d\u0003.\u0017\u0000"+
-		"\u017d\u017e\u0005;\u0000\u0000\u017e\u017f\u0006\u0013\uffff\uffff\u0000"+
-		"\u017f\'\u0001\u0000\u0000\u0000\u0180\u0181\u00053\u0000\u0000\u0181"+
-		"\u0182\u0003.\u0017\u0000\u0182\u0183\u0006\u0014\uffff\uffff\u0000\u0183"+
-		"\u0184\u00054\u0000\u0000\u0184)\u0001\u0000\u0000\u0000\u0185\u0186\u0003"+
-		"\u000e\u0007\u0000\u0186\u0187\u0006\u0015\uffff\uffff\u0000\u0187\u019d"+
-		"\u0001\u0000\u0000\u0000\u0188\u0189\u0003\u0018\f\u0000\u0189\u018a\u0006"+
-		"\u0015\uffff\uffff\u0000\u018a\u019d\u0001\u0000\u0000\u0000\u018b\u018c"+
-		"\u0003\u001c\u000e\u0000\u018c\u018d\u0006\u0015\uffff\uffff\u0000\u018d"+
-		"\u019d\u0001\u0000\u0000\u0000\u018e\u018f\u0003\u0012\t\u0000\u018f\u0190"+
-		"\u0006\u0015\uffff\uffff\u0000\u0190\u019d\u0001\u0000\u0000\u0000\u0191"+
-		"\u0192\u0003\u0016\u000b\u0000\u0192\u0193\u0006\u0015\uffff\uffff\u0000"+
-		"\u0193\u019d\u0001\u0000\u0000\u0000\u0194\u0195\u0003.\u0017\u0000\u0195"+
-		"\u0196\u0006\u0015\uffff\uffff\u0000\u0196\u0197\u0006\u0015\uffff\uffff"+
-		"\u0000\u0197\u0198\u0005;\u0000\u0000\u0198\u019d\u0001\u0000\u0000\u0000"+
-		"\u0199\u019a\u0003&\u0013\u0000\u019a\u019b\u0006\u0015\uffff\uffff\u0000"+
-		"\u019b\u019d\u0001\u0000\u0000\u0000\u019c\u0185\u0001\u0000\u0000\u0000"+
-		"\u019c\u0188\u0001\u0000\u0000\u0000\u019c\u018b\u0001\u0000\u0000\u0000"+
-		"\u019c\u018e\u0001\u0000\u0000\u0000\u019c\u0191\u0001\u0000\u0000\u0000"+
-		"\u019c\u0194\u0001\u0000\u0000\u0000\u019c\u0199\u0001\u0000\u0000\u0000"+
-		"\u019d+\u0001\u0000\u0000\u0000\u019e\u01a4\u0006\u0016\uffff\uffff\u0000"+
-		"\u019f\u01a0\u0003*\u0015\u0000\u01a0\u01a1\u0006\u0016\uffff\uffff\u0000"+
-		"\u01a1\u01a3\u0001\u0000\u0000\u0000\u01a2\u019f\u0001\u0000\u0000\u0000"+
-		"\u01a3\u01a6\u0001\u0000\u0000\u0000\u01a4\u01a2\u0001\u0000\u0000\u0000"+
-		"\u01a4\u01a5\u0001\u0000\u0000\u0000\u01a5\u01aa\u0001\u0000\u0000\u0000"+
-		"\u01a6\u01a4\u0001\u0000\u0000\u0000\u01a7\u01a8\u0003\f\u0006\u0000\u01a8"+
-		"\u01a9\u0006\u0016\uffff\uffff\u0000\u01a9\u01ab\u0001\u0000\u0000\u0000"+
-		"\u01aa\u01a7\u0001\u0000\u0000\u0000\u01aa\u01ab\u0001\u0000\u0000\u0000"+
-		"\u01ab-\u0001\u0000\u0000\u0000\u01ac\u01ad\u0006\u0017\uffff\uffff\u0000"+
-		"\u01ad\u01ae\u00030\u0018\u0000\u01ae\u01af\u0006\u0017\uffff\uffff\u0000"+
-		"\u01af\u01b7\u0001\u0000\u0000\u0000\u01b0\u01b1\n\u0002\u0000\u0000\u01b1"+
-		"\u01b2\u0005%\u0000\u0000\u01b2\u01b3\u00030\u0018\u0000\u01b3\u01b4\u0006"+
-		"\u0017\uffff\uffff\u0000\u01b4\u01b6\u0001\u0000\u0000\u0000\u01b5\u01b0"+
-		"\u0001\u0000\u0000\u0000\u01b6\u01b9\u0001\u0000\u0000\u0000\u01b7\u01b5"+
-		"\u0001\u0000\u0000\u0000\u01b7\u01b8\u0001\u0000\u0000\u0000\u01b8/\u0001"+
-		"\u0000\u0000\u0000\u01b9\u01b7\u0001\u0000\u0000\u0000\u01ba\u01bb\u0003"+
-		"2\u0019\u0000\u01bb\u01c0\u0006\u0018\uffff\uffff\u0000\u01bc\u01bd\u0005"+
-		"\u0018\u0000\u0000\u01bd\u01c1\u0006\u0018\uffff\uffff\u0000\u01be\u01bf"+
-		"\u0005\u0019\u0000\u0000\u01bf\u01c1\u0006\u0018\uffff\uffff\u0000\u01c0"+
-		"\u01bc\u0001\u0000\u0000\u0000\u01c0\u01be\u0001\u0000\u0000\u0000\u01c1"+
-		"\u01c2\u0001\u0000\u0000\u0000\u01c2\u01c3\u00032\u0019\u0000\u01c3\u01c4"+
-		"\u0006\u0018\uffff\uffff\u0000\u01c4\u01c9\u0001\u0000\u0000\u0000\u01c5"+
-		"\u01c6\u00032\u0019\u0000\u01c6\u01c7\u0006\u0018\uffff\uffff\u0000\u01c7"+
-		"\u01c9\u0001\u0000\u0000\u0000\u01c8\u01ba\u0001\u0000\u0000\u0000\u01c8"+
-		"\u01c5\u0001\u0000\u0000\u0000\u01c91\u0001\u0000\u0000\u0000\u01ca\u01cb"+
-		"\u0006\u0019\uffff\uffff\u0000\u01cb\u01cc\u00034\u001a\u0000\u01cc\u01cd"+
-		"\u0006\u0019\uffff\uffff\u0000\u01cd\u01df\u0001\u0000\u0000\u0000\u01ce"+
-		"\u01cf\n\u0002\u0000\u0000\u01cf\u01d8\u0006\u0019\uffff\uffff\u0000\u01d0"+
-		"\u01d1\u0005\u001c\u0000\u0000\u01d1\u01d9\u0006\u0019\uffff\uffff\u0000"+
-		"\u01d2\u01d3\u0005\u001d\u0000\u0000\u01d3\u01d9\u0006\u0019\uffff\uffff"+
-		"\u0000\u01d4\u01d5\u0005\u001a\u0000\u0000\u01d5\u01d9\u0006\u0019\uffff"+
-		"\uffff\u0000\u01d6\u01d7\u0005\u001b\u0000\u0000\u01d7\u01d9\u0006\u0019"+
-		"\uffff\uffff\u0000\u01d8\u01d0\u0001\u0000\u0000\u0000\u01d8\u01d2\u0001"+
-		"\u0000\u0000\u0000\u01d8\u01d4\u0001\u0000\u0000\u0000\u01d8\u01d6\u0001"+
-		"\u0000\u0000\u0000\u01d9\u01da\u0001\u0000\u0000\u0000\u01da\u01db\u0003"+
-		"4\u001a\u0000\u01db\u01dc\u0006\u0019\uffff\uffff\u0000\u01dc\u01de\u0001"+
-		"\u0000\u0000\u0000\u01dd\u01ce\u0001\u0000\u0000\u0000\u01de\u01e1\u0001"+
-		"\u0000\u0000\u0000\u01df\u01dd\u0001\u0000\u0000\u0000\u01df\u01e0\u0001"+
-		"\u0000\u0000\u0000\u01e03\u0001\u0000\u0000\u0000\u01e1\u01df\u0001\u0000"+
-		"\u0000\u0000\u01e2\u01e3\u0006\u001a\uffff\uffff\u0000\u01e3\u01e4\u0003"+
-		"6\u001b\u0000\u01e4\u01e5\u0006\u001a\uffff\uffff\u0000\u01e5\u01f3\u0001"+
-		"\u0000\u0000\u0000\u01e6\u01e7\n\u0002\u0000\u0000\u01e7\u01ec\u0006\u001a"+
-		"\uffff\uffff\u0000\u01e8\u01e9\u0005\u0014\u0000\u0000\u01e9\u01ed\u0006"+
-		"\u001a\uffff\uffff\u0000\u01ea\u01eb\u0005\u0015\u0000\u0000\u01eb\u01ed"+
-		"\u0006\u001a\uffff\uffff\u0000\u01ec\u01e8\u0001\u0000\u0000\u0000\u01ec"+
-		"\u01ea\u0001\u0000\u0000\u0000\u01ed\u01ee\u0001\u0000\u0000\u0000\u01ee"+
-		"\u01ef\u00036\u001b\u0000\u01ef\u01f0\u0006\u001a\uffff\uffff\u0000\u01f0"+
-		"\u01f2\u0001\u0000\u0000\u0000\u01f1\u01e6\u0001\u0000\u0000\u0000\u01f2"+
-		"\u01f5\u0001\u0000\u0000\u0000\u01f3\u01f1\u0001\u0000\u0000\u0000\u01f3"+
-		"\u01f4\u0001\u0000\u0000\u0000\u01f45\u0001\u0000\u0000\u0000\u01f5\u01f3"+
-		"\u0001\u0000\u0000\u0000\u01f6\u01f7\u0006\u001b\uffff\uffff\u0000\u01f7"+
-		"\u01f8\u00038\u001c\u0000\u01f8\u01f9\u0006\u001b\uffff\uffff\u0000\u01f9"+
-		"\u0207\u0001\u0000\u0000\u0000\u01fa\u01fb\n\u0002\u0000\u0000\u01fb\u0200"+
-		"\u0006\u001b\uffff\uffff\u0000\u01fc\u01fd\u0005\u0016\u0000\u0000\u01fd"+
-		"\u0201\u0006\u001b\uffff\uffff\u0000\u01fe\u01ff\u0005\u0017\u0000\u0000"+
-		"\u01ff\u0201\u0006\u001b\uffff\uffff\u0000\u0200\u01fc\u0001\u0000\u0000"+
-		"\u0000\u0200\u01fe\u0001\u0000\u0000\u0000\u0201\u0202\u0001\u0000\u0000"+
-		"\u0000\u0202\u0203\u00038\u001c\u0000\u0203\u0204\u0006\u001b\uffff\uffff"+
-		"\u0000\u0204\u0206\u0001\u0000\u0000\u0000\u0205\u01fa\u0001\u0000\u0000"+
-		"\u0000\u0206\u0209\u0001\u0000\u0000\u0000\u0207\u0205\u0001\u0000\u0000"+
-		"\u0000\u0207\u0208\u0001\u0000\u0000\u0000\u02087\u0001\u0000\u0000\u0000"+
-		"\u0209\u0207\u0001\u0000\u0000\u0000\u020a\u0213\u0006\u001c\uffff\uffff"+
-		"\u0000\u020b\u020c\u0005 \u0000\u0000\u020c\u0214\u0006\u001c\uffff\uffff"+
-		"\u0000\u020d\u020e\u0005\u0015\u0000\u0000\u020e\u0214\u0006\u001c\uffff"+
-		"\uffff\u0000\u020f\u0210\u0005!\u0000\u0000\u0210\u0214\u0006\u001c\uffff"+
-		"\uffff\u0000\u0211\u0212\u0005\"\u0000\u0000\u0212\u0214\u0006\u001c\uffff"+
-		"\uffff\u0000\u0213\u020b\u0001\u0000\u0000\u0000\u0213\u020d\u0001\u0000"+
-		"\u0000\u0000\u0213\u020f\u0001\u0000\u0000\u0000\u0213\u0211\u0001\u0000"+
-		"\u0000\u0000\u0214\u0215\u0001\u0000\u0000\u0000\u0215\u0216\u0003:\u001d"+
-		"\u0000\u0216\u0217\u0006\u001c\uffff\uffff\u0000\u0217\u021c\u0001\u0000"+
-		"\u0000\u0000\u0218\u0219\u0003:\u001d\u0000\u0219\u021a\u0006\u001c\uffff"+
-		"\uffff\u0000\u021a\u021c\u0001\u0000\u0000\u0000\u021b\u020a\u0001\u0000"+
-		"\u0000\u0000\u021b\u0218\u0001\u0000\u0000\u0000\u021c9\u0001\u0000\u0000"+
-		"\u0000\u021d\u021e\u0006\u001d\uffff\uffff\u0000\u021e\u0226\u0003<\u001e"+
-		"\u0000\u021f\u0220\u00051\u0000\u0000\u0220\u0221\u0003\n\u0005\u0000"+
-		"\u0221\u0222\u0006\u001d\uffff\uffff\u0000\u0222\u0223\u00052\u0000\u0000"+
-		"\u0223\u0225\u0001\u0000\u0000\u0000\u0224\u021f\u0001\u0000\u0000\u0000"+
-		"\u0225\u0228\u0001\u0000\u0000\u0000\u0226\u0224\u0001\u0000\u0000\u0000"+
-		"\u0226\u0227\u0001\u0000\u0000\u0000\u0227\u022e\u0001\u0000\u0000\u0000"+
-		"\u0228\u0226\u0001\u0000\u0000\u0000\u0229\u022a\u0003(\u0014\u0000\u022a"+
-		"\u022b\u0006\u001d\uffff\uffff\u0000\u022b\u022d\u0001\u0000\u0000\u0000"+
-		"\u022c\u0229\u0001\u0000\u0000\u0000\u022d\u0230\u0001\u0000\u0000\u0000"+
-		"\u022e\u022c\u0001\u0000\u0000\u0000\u022e\u022f\u0001\u0000\u0000\u0000"+
-		"\u022f\u0231\u0001\u0000\u0000\u0000\u0230\u022e\u0001\u0000\u0000\u0000"+
-		"\u0231\u0232\u0006\u001d\uffff\uffff\u0000\u0232;\u0001\u0000\u0000\u0000"+
-		"\u0233\u0234\u0003@ \u0000\u0234\u0235\u0006\u001e\uffff\uffff\u0000\u0235"+
-		"\u024f\u0001\u0000\u0000\u0000\u0236\u0237\u0005>\u0000\u0000\u0237\u024f"+
-		"\u0006\u001e\uffff\uffff\u0000\u0238\u0239\u0003>\u001f\u0000\u0239\u023a"+
-		"\u0006\u001e\uffff\uffff\u0000\u023a\u024f\u0001\u0000\u0000\u0000\u023b"+
-		"\u023c\u0003\"\u0011\u0000\u023c\u023d\u0006\u001e\uffff\uffff\u0000\u023d"+
-		"\u024f\u0001\u0000\u0000\u0000\u023e\u023f\u0003$\u0012\u0000\u023f\u0240"+
-		"\u0006\u001e\uffff\uffff\u0000\u0240\u024f\u0001\u0000\u0000\u0000\u0241"+
-		"\u0242\u0003 \u0010\u0000\u0242\u0243\u0006\u001e\uffff\uffff\u0000\u0243"+
-		"\u024f\u0001\u0000\u0000\u0000\u0244\u0245\u0003\u0014\n\u0000\u0245\u0246"+
-		"\u0006\u001e\uffff\uffff\u0000\u0246\u024f\u0001\u0000\u0000\u0000\u0247"+
-		"\u024b\u00051\u0000\u0000\u0248\u0249\u0003.\u0017\u0000\u0249\u024a\u0006"+
-		"\u001e\uffff\uffff\u0000\u024a\u024c\u0001\u0000\u0000\u0000\u024b\u0248"+
-		"\u0001\u0000\u0000\u0000\u024b\u024c\u0001\u0000\u0000\u0000\u024c\u024d"+
-		"\u0001\u0000\u0000\u0000\u024d\u024f\u00052\u0000\u0000\u024e\u0233\u0001"+
-		"\u0000\u0000\u0000\u024e\u0236\u0001\u0000\u0000\u0000\u024e\u0238\u0001"+
-		"\u0000\u0000\u0000\u024e\u023b\u0001\u0000\u0000\u0000\u024e\u023e\u0001"+
-		"\u0000\u0000\u0000\u024e\u0241\u0001\u0000\u0000\u0000\u024e\u0244\u0001"+
-		"\u0000\u0000\u0000\u024e\u0247\u0001\u0000\u0000\u0000\u024f=\u0001\u0000"+
-		"\u0000\u0000\u0250\u0251\u0005*\u0000\u0000\u0251\u0252\u0003\u0004\u0002"+
-		"\u0000\u0252\u0253\u00055\u0000\u0000\u0253\u0254\u0003,\u0016\u0000\u0254"+
-		"\u0255\u00056\u0000\u0000\u0255\u0256\u0006\u001f\uffff\uffff\u0000\u0256"+
-		"?\u0001\u0000\u0000\u0000\u0257\u0258\u0003D\"\u0000\u0258\u0259\u0006"+
-		" \uffff\uffff\u0000\u0259\u0267\u0001\u0000\u0000\u0000\u025a\u025b\u0005"+
-		"?\u0000\u0000\u025b\u0267\u0006 \uffff\uffff\u0000\u025c\u025d\u0005<"+
-		"\u0000\u0000\u025d\u0267\u0006 \uffff\uffff\u0000\u025e\u025f\u0005=\u0000"+
-		"\u0000\u025f\u0267\u0006 \uffff\uffff\u0000\u0260\u0261\u0003B!\u0000"+
-		"\u0261\u0262\u0006 \uffff\uffff\u0000\u0262\u0267\u0001\u0000\u0000\u0000"+
-		"\u0263\u0264\u0003F#\u0000\u0264\u0265\u0006 \uffff\uffff\u0000\u0265"+
-		"\u0267\u0001\u0000\u0000\u0000\u0266\u0257\u0001\u0000\u0000\u0000\u0266"+
-		"\u025a\u0001\u0000\u0000\u0000\u0266\u025c\u0001\u0000\u0000\u0000\u0266"+
-		"\u025e\u0001\u0000\u0000\u0000\u0266\u0260\u0001\u0000\u0000\u0000\u0266"+
-		"\u0263\u0001\u0000\u0000\u0000\u0267A\u0001\u0000\u0000\u0000\u0268\u0269"+
-		"\u00053\u0000\u0000\u0269\u026a\u0003\n\u0005\u0000\u026a\u026b\u0005"+
-		"4\u0000\u0000\u026b\u026c\u0006!\uffff\uffff\u0000\u026cC\u0001\u0000"+
-		"\u0000\u0000\u026d\u026e\u0005&\u0000\u0000\u026e\u0272\u0006\"\uffff"+
-		"\uffff\u0000\u026f\u0270\u0005\'\u0000\u0000\u0270\u0272\u0006\"\uffff"+
-		"\uffff\u0000\u0271\u026d\u0001\u0000\u0000\u0000\u0271\u026f\u0001\u0000"+
-		"\u0000\u0000\u0272E\u0001\u0000\u0000\u0000\u0273\u0274\u0005\u000b\u0000"+
-		"\u0000\u0274\u0275\u00051\u0000\u0000\u0275\u0276\u0005:\u0000\u0000\u0276"+
-		"\u0277\u0005>\u0000\u0000\u0277\u0278\u00052\u0000\u0000\u0278\u0279\u0006"+
-		"#\uffff\uffff\u0000\u0279G\u0001\u0000\u0000\u0000-OQk~\u0083\u0085\u009a"+
-		"\u00b2\u00b5\u00bc\u00cc\u00d4\u00df\u00e4\u00e8\u00ed\u0116\u0120\u0124"+
-		"\u0126\u012c\u0148\u014f\u016c\u017a\u019c\u01a4\u01aa\u01b7\u01c0\u01c8"+
-		"\u01d8\u01df\u01ec\u01f3\u0200\u0207\u0213\u021b\u0226\u022e\u024b\u024e"+
-		"\u0266\u0271";
+		"\u0000\u0000\u00d7\u000f\u0001\u0000\u0000\u0000\u00d8\u00f5\u0006\b\uffff"+
+		"\uffff\u0000\u00d9\u00e0\u00051\u0000\u0000\u00da\u00db\u0003.\u0017\u0000"+
+		"\u00db\u00dc\u0006\b\uffff\uffff\u0000\u00dc\u00e1\u0001\u0000\u0000\u0000"+
+		"\u00dd\u00de\u0003\u0010\b\u0000\u00de\u00df\u0006\b\uffff\uffff\u0000"+
+		"\u00df\u00e1\u0001\u0000\u0000\u0000\u00e0\u00da\u0001\u0000\u0000\u0000"+
+		"\u00e0\u00dd\u0001\u0000\u0000\u0000\u00e1\u00e2\u0001\u0000\u0000\u0000"+
+		"\u00e2\u00f0\u00052\u0000\u0000\u00e3\u00e4\u0007\u0000\u0000\u0000\u00e4"+
+		"\u00e7\u0006\b\uffff\uffff\u0000\u00e5\u00e6\u00051\u0000\u0000\u00e6"+
+		"\u00e8\u0006\b\uffff\uffff\u0000\u00e7\u00e5\u0001\u0000\u0000\u0000\u00e7"+
+		"\u00e8\u0001\u0000\u0000\u0000\u00e8\u00e9\u0001\u0000\u0000\u0000\u00e9"+
+		"\u00ea\u0003\u0010\b\u0000\u00ea\u00ec\u0006\b\uffff\uffff\u0000\u00eb"+
+		"\u00ed\u00052\u0000\u0000\u00ec\u00eb\u0001\u0000\u0000\u0000\u00ec\u00ed"+
+		"\u0001\u0000\u0000\u0000\u00ed\u00ef\u0001\u0000\u0000\u0000\u00ee\u00e3"+
+		"\u0001\u0000\u0000\u0000\u00ef\u00f2\u0001\u0000\u0000\u0000\u00f0\u00ee"+
+		"\u0001\u0000\u0000\u0000\u00f0\u00f1\u0001\u0000\u0000\u0000\u00f1\u00f4"+
+		"\u0001\u0000\u0000\u0000\u00f2\u00f0\u0001\u0000\u0000\u0000\u00f3\u00d9"+
+		"\u0001\u0000\u0000\u0000\u00f4\u00f7\u0001\u0000\u0000\u0000\u00f5\u00f3"+
+		"\u0001\u0000\u0000\u0000\u00f5\u00f6\u0001\u0000\u0000\u0000\u00f6\u00f8"+
+		"\u0001\u0000\u0000\u0000\u00f7\u00f5\u0001\u0000\u0000\u0000\u00f8\u00f9"+
+		"\u0006\b\uffff\uffff\u0000\u00f9\u0011\u0001\u0000\u0000\u0000\u00fa\u00fb"+
+		"\u0005\u0004\u0000\u0000\u00fb\u00fc\u00051\u0000\u0000\u00fc\u00fd\u0003"+
+		".\u0017\u0000\u00fd\u00fe\u0006\t\uffff\uffff\u0000\u00fe\u00ff\u0005"+
+		"2\u0000\u0000\u00ff\u0100\u0005;\u0000\u0000\u0100\u0013\u0001\u0000\u0000"+
+		"\u0000\u0101\u0102\u0005\u0006\u0000\u0000\u0102\u0103\u00051\u0000\u0000"+
+		"\u0103\u0104\u0003.\u0017\u0000\u0104\u0105\u0006\n\uffff\uffff\u0000"+
+		"\u0105\u0106\u00052\u0000\u0000\u0106\u0015\u0001\u0000\u0000\u0000\u0107"+
+		"\u0108\u0005\u0005\u0000\u0000\u0108\u0109\u00051\u0000\u0000\u0109\u010a"+
+		"\u0003.\u0017\u0000\u010a\u010b\u00057\u0000\u0000\u010b\u010c\u0003."+
+		"\u0017\u0000\u010c\u010d\u00052\u0000\u0000\u010d\u010e\u0005;\u0000\u0000"+
+		"\u010e\u010f\u0006\u000b\uffff\uffff\u0000\u010f\u0017\u0001\u0000\u0000"+
+		"\u0000\u0110\u0111\u0005\u000e\u0000\u0000\u0111\u0112\u0005\u0011\u0000"+
+		"\u0000\u0112\u0113\u0003\u001a\r\u0000\u0113\u0114\u0006\f\uffff\uffff"+
+		"\u0000\u0114\u0115\u0005\u0002\u0000\u0000\u0115\u0019\u0001\u0000\u0000"+
+		"\u0000\u0116\u0130\u0006\r\uffff\uffff\u0000\u0117\u0118\u0003*\u0015"+
+		"\u0000\u0118\u0119\u0006\r\uffff\uffff\u0000\u0119\u012f\u0001\u0000\u0000"+
+		"\u0000\u011a\u011b\u0005(\u0000\u0000\u011b\u0120\u0006\r\uffff\uffff"+
+		"\u0000\u011c\u011d\u0005\b\u0000\u0000\u011d\u011e\u0003\u0010\b\u0000"+
+		"\u011e\u011f\u0006\r\uffff\uffff\u0000\u011f\u0121\u0001\u0000\u0000\u0000"+
+		"\u0120\u011c\u0001\u0000\u0000\u0000\u0120\u0121\u0001\u0000\u0000\u0000"+
+		"\u0121\u0122\u0001\u0000\u0000\u0000\u0122\u0123\u0006\r\uffff\uffff\u0000"+
+		"\u0123\u012f\u0005;\u0000\u0000\u0124\u0125\u0005)\u0000\u0000\u0125\u012a"+
+		"\u0006\r\uffff\uffff\u0000\u0126\u0127\u0005\b\u0000\u0000\u0127\u0128"+
+		"\u0003\u0010\b\u0000\u0128\u0129\u0006\r\uffff\uffff\u0000\u0129\u012b"+
+		"\u0001\u0000\u0000\u0000\u012a\u0126\u0001\u0000\u0000\u0000\u012a\u012b"+
+		"\u0001\u0000\u0000\u0000\u012b\u012c\u0001\u0000\u0000\u0000\u012c\u012d"+
+		"\u0006\r\uffff\uffff\u0000\u012d\u012f\u0005;\u0000\u0000\u012e\u0117"+
+		"\u0001\u0000\u0000\u0000\u012e\u011a\u0001\u0000\u0000\u0000\u012e\u0124"+
+		"\u0001\u0000\u0000\u0000\u012f\u0132\u0001\u0000\u0000\u0000\u0130\u012e"+
+		"\u0001\u0000\u0000\u0000\u0130\u0131\u0001\u0000\u0000\u0000\u0131\u0136"+
+		"\u0001\u0000\u0000\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0133\u0134"+
+		"\u0003\f\u0006\u0000\u0134\u0135\u0006\r\uffff\uffff\u0000\u0135\u0137"+
+		"\u0001\u0000\u0000\u0000\u0136\u0133\u0001\u0000\u0000\u0000\u0136\u0137"+
+		"\u0001\u0000\u0000\u0000\u0137\u001b\u0001\u0000\u0000\u0000\u0138\u0139"+
+		"\u0005\u000f\u0000\u0000\u0139\u013a\u0005>\u0000\u0000\u013a\u013b\u0005"+
+		"\u0010\u0000\u0000\u013b\u013c\u0003\u001e\u000f\u0000\u013c\u013d\u0003"+
+		"\u001a\r\u0000\u013d\u013e\u0005\u0002\u0000\u0000\u013e\u013f\u0006\u000e"+
+		"\uffff\uffff\u0000\u013f\u001d\u0001\u0000\u0000\u0000\u0140\u0159\u0006"+
+		"\u000f\uffff\uffff\u0000\u0141\u0142\u00051\u0000\u0000\u0142\u0143\u0003"+
+		".\u0017\u0000\u0143\u0144\u00059\u0000\u0000\u0144\u0145\u0003.\u0017"+
+		"\u0000\u0145\u0146\u0006\u000f\uffff\uffff\u0000\u0146\u0147\u00052\u0000"+
+		"\u0000\u0147\u015a\u0001\u0000\u0000\u0000\u0148\u0149\u0006\u000f\uffff"+
+		"\uffff\u0000\u0149\u014a\u00053\u0000\u0000\u014a\u014b\u0003.\u0017\u0000"+
+		"\u014b\u0152\u0006\u000f\uffff\uffff\u0000\u014c\u014d\u00057\u0000\u0000"+
+		"\u014d\u014e\u0003.\u0017\u0000\u014e\u014f\u0006\u000f\uffff\uffff\u0000"+
+		"\u014f\u0151\u0001\u0000\u0000\u0000\u0150\u014c\u0001\u0000\u0000\u0000"+
+		"\u0151\u0154\u0001\u0000\u0000\u0000\u0152\u0150\u0001\u0000\u0000\u0000"+
+		"\u0152\u0153\u0001\u0000\u0000\u0000\u0153\u0155\u0001\u0000\u0000\u0000"+
+		"\u0154\u0152\u0001\u0000\u0000\u0000\u0155\u0156\u00054\u0000\u0000\u0156"+
+		"\u015a\u0001\u0000\u0000\u0000\u0157\u0158\u0005>\u0000\u0000\u0158\u015a"+
+		"\u0006\u000f\uffff\uffff\u0000\u0159\u0141\u0001\u0000\u0000\u0000\u0159"+
+		"\u0148\u0001\u0000\u0000\u0000\u0159\u0157\u0001\u0000\u0000\u0000\u015a"+
+		"\u015b\u0001\u0000\u0000\u0000\u015b\u015c\u0006\u000f\uffff\uffff\u0000"+
+		"\u015c\u001f\u0001\u0000\u0000\u0000\u015d\u015e\u0005>\u0000\u0000\u015e"+
+		"\u015f\u00058\u0000\u0000\u015f\u0160\u0005\r\u0000\u0000\u0160\u0161"+
+		"\u00051\u0000\u0000\u0161\u0162\u0003.\u0017\u0000\u0162\u0163\u00052"+
+		"\u0000\u0000\u0163\u0164\u0006\u0010\uffff\uffff\u0000\u0164!\u0001\u0000"+
+		"\u0000\u0000\u0165\u0166\u0005\u0012\u0000\u0000\u0166\u0167\u00051\u0000"+
+		"\u0000\u0167\u0168\u0003.\u0017\u0000\u0168\u0169\u00052\u0000\u0000\u0169"+
+		"\u016a\u0006\u0011\uffff\uffff\u0000\u016a#\u0001\u0000\u0000\u0000\u016b"+
+		"\u016c\u0005\u0013\u0000\u0000\u016c\u016d\u00051\u0000\u0000\u016d\u016e"+
+		"\u0003.\u0017\u0000\u016e\u016f\u00052\u0000\u0000\u016f\u0170\u0006\u0012"+
+		"\uffff\uffff\u0000\u0170%\u0001\u0000\u0000\u0000\u0171\u0172\u0006\u0013"+
+		"\uffff\uffff\u0000\u0172\u0176\u0005>\u0000\u0000\u0173\u0174\u0003(\u0014"+
+		"\u0000\u0174\u0175\u0006\u0013\uffff\uffff\u0000\u0175\u0177\u0001\u0000"+
+		"\u0000\u0000\u0176\u0173\u0001\u0000\u0000\u0000\u0176\u0177\u0001\u0000"+
+		"\u0000\u0000\u0177\u0184\u0001\u0000\u0000\u0000\u0178\u0179\u00050\u0000"+
+		"\u0000\u0179\u0185\u0006\u0013\uffff\uffff\u0000\u017a\u017b\u0005+\u0000"+
+		"\u0000\u017b\u0185\u0006\u0013\uffff\uffff\u0000\u017c\u017d\u0005,\u0000"+
+		"\u0000\u017d\u0185\u0006\u0013\uffff\uffff\u0000\u017e\u017f\u0005.\u0000"+
+		"\u0000\u017f\u0185\u0006\u0013\uffff\uffff\u0000\u0180\u0181\u0005-\u0000"+
+		"\u0000\u0181\u0185\u0006\u0013\uffff\uffff\u0000\u0182\u0183\u0005/\u0000"+
+		"\u0000\u0183\u0185\u0006\u0013\uffff\uffff\u0000\u0184\u0178\u0001\u0000"+
+		"\u0000\u0000\u0184\u017a\u0001\u0000\u0000\u0000\u0184\u017c\u0001\u0000"+
+		"\u0000\u0000\u0184\u017e\u0001\u0000\u0000\u0000\u0184\u0180\u0001\u0000"+
+		"\u0000\u0000\u0184\u0182\u0001\u0000\u0000\u0000\u0185\u0186\u0001\u0000"+
+		"\u0000\u0000\u0186\u0187\u0003.\u0017\u0000\u0187\u0188\u0005;\u0000\u0000"+
+		"\u0188\u0189\u0006\u0013\uffff\uffff\u0000\u0189\'\u0001\u0000\u0000\u0000"+
+		"\u018a\u018b\u00053\u0000\u0000\u018b\u018c\u0003.\u0017\u0000\u018c\u018d"+
+		"\u0006\u0014\uffff\uffff\u0000\u018d\u018e\u00054\u0000\u0000\u018e)\u0001"+
+		"\u0000\u0000\u0000\u018f\u0190\u0003\u000e\u0007\u0000\u0190\u0191\u0006"+
+		"\u0015\uffff\uffff\u0000\u0191\u01a7\u0001\u0000\u0000\u0000\u0192\u0193"+
+		"\u0003\u0018\f\u0000\u0193\u0194\u0006\u0015\uffff\uffff\u0000\u0194\u01a7"+
+		"\u0001\u0000\u0000\u0000\u0195\u0196\u0003\u001c\u000e\u0000\u0196\u0197"+
+		"\u0006\u0015\uffff\uffff\u0000\u0197\u01a7\u0001\u0000\u0000\u0000\u0198"+
+		"\u0199\u0003\u0012\t\u0000\u0199\u019a\u0006\u0015\uffff\uffff\u0000\u019a"+
+		"\u01a7\u0001\u0000\u0000\u0000\u019b\u019c\u0003\u0016\u000b\u0000\u019c"+
+		"\u019d\u0006\u0015\uffff\uffff\u0000\u019d\u01a7\u0001\u0000\u0000\u0000"+
+		"\u019e\u019f\u0003.\u0017\u0000\u019f\u01a0\u0006\u0015\uffff\uffff\u0000"+
+		"\u01a0\u01a1\u0006\u0015\uffff\uffff\u0000\u01a1\u01a2\u0005;\u0000\u0000"+
+		"\u01a2\u01a7\u0001\u0000\u0000\u0000\u01a3\u01a4\u0003&\u0013\u0000\u01a4"+
+		"\u01a5\u0006\u0015\uffff\uffff\u0000\u01a5\u01a7\u0001\u0000\u0000\u0000"+
+		"\u01a6\u018f\u0001\u0000\u0000\u0000\u01a6\u0192\u0001\u0000\u0000\u0000"+
+		"\u01a6\u0195\u0001\u0000\u0000\u0000\u01a6\u0198\u0001\u0000\u0000\u0000"+
+		"\u01a6\u019b\u0001\u0000\u0000\u0000\u01a6\u019e\u0001\u0000\u0000\u0000"+
+		"\u01a6\u01a3\u0001\u0000\u0000\u0000\u01a7+\u0001\u0000\u0000\u0000\u01a8"+
+		"\u01ae\u0006\u0016\uffff\uffff\u0000\u01a9\u01aa\u0003*\u0015\u0000\u01aa"+
+		"\u01ab\u0006\u0016\uffff\uffff\u0000\u01ab\u01ad\u0001\u0000\u0000\u0000"+
+		"\u01ac\u01a9\u0001\u0000\u0000\u0000\u01ad\u01b0\u0001\u0000\u0000\u0000"+
+		"\u01ae\u01ac\u0001\u0000\u0000\u0000\u01ae\u01af\u0001\u0000\u0000\u0000"+
+		"\u01af\u01b4\u0001\u0000\u0000\u0000\u01b0\u01ae\u0001\u0000\u0000\u0000"+
+		"\u01b1\u01b2\u0003\f\u0006\u0000\u01b2\u01b3\u0006\u0016\uffff\uffff\u0000"+
+		"\u01b3\u01b5\u0001\u0000\u0000\u0000\u01b4\u01b1\u0001\u0000\u0000\u0000"+
+		"\u01b4\u01b5\u0001\u0000\u0000\u0000\u01b5-\u0001\u0000\u0000\u0000\u01b6"+
+		"\u01b7\u0006\u0017\uffff\uffff\u0000\u01b7\u01b8\u00030\u0018\u0000\u01b8"+
+		"\u01b9\u0006\u0017\uffff\uffff\u0000\u01b9\u01c1\u0001\u0000\u0000\u0000"+
+		"\u01ba\u01bb\n\u0002\u0000\u0000\u01bb\u01bc\u0005%\u0000\u0000\u01bc"+
+		"\u01bd\u00030\u0018\u0000\u01bd\u01be\u0006\u0017\uffff\uffff\u0000\u01be"+
+		"\u01c0\u0001\u0000\u0000\u0000\u01bf\u01ba\u0001\u0000\u0000\u0000\u01c0"+
+		"\u01c3\u0001\u0000\u0000\u0000\u01c1\u01bf\u0001\u0000\u0000\u0000\u01c1"+
+		"\u01c2\u0001\u0000\u0000\u0000\u01c2/\u0001\u0000\u0000\u0000\u01c3\u01c1"+
+		"\u0001\u0000\u0000\u0000\u01c4\u01c5\u00032\u0019\u0000\u01c5\u01ca\u0006"+
+		"\u0018\uffff\uffff\u0000\u01c6\u01c7\u0005\u0018\u0000\u0000\u01c7\u01cb"+
+		"\u0006\u0018\uffff\uffff\u0000\u01c8\u01c9\u0005\u0019\u0000\u0000\u01c9"+
+		"\u01cb\u0006\u0018\uffff\uffff\u0000\u01ca\u01c6\u0001\u0000\u0000\u0000"+
+		"\u01ca\u01c8\u0001\u0000\u0000\u0000\u01cb\u01cc\u0001\u0000\u0000\u0000"+
+		"\u01cc\u01cd\u00032\u0019\u0000\u01cd\u01ce\u0006\u0018\uffff\uffff\u0000"+
+		"\u01ce\u01d3\u0001\u0000\u0000\u0000\u01cf\u01d0\u00032\u0019\u0000\u01d0"+
+		"\u01d1\u0006\u0018\uffff\uffff\u0000\u01d1\u01d3\u0001\u0000\u0000\u0000"+
+		"\u01d2\u01c4\u0001\u0000\u0000\u0000\u01d2\u01cf\u0001\u0000\u0000\u0000"+
+		"\u01d31\u0001\u0000\u0000\u0000\u01d4\u01d5\u0006\u0019\uffff\uffff\u0000"+
+		"\u01d5\u01d6\u00034\u001a\u0000\u01d6\u01d7\u0006\u0019\uffff\uffff\u0000"+
+		"\u01d7\u01e9\u0001\u0000\u0000\u0000\u01d8\u01d9\n\u0002\u0000\u0000\u01d9"+
+		"\u01e2\u0006\u0019\uffff\uffff\u0000\u01da\u01db\u0005\u001c\u0000\u0000"+
+		"\u01db\u01e3\u0006\u0019\uffff\uffff\u0000\u01dc\u01dd\u0005\u001d\u0000"+
+		"\u0000\u01dd\u01e3\u0006\u0019\uffff\uffff\u0000\u01de\u01df\u0005\u001a"+
+		"\u0000\u0000\u01df\u01e3\u0006\u0019\uffff\uffff\u0000\u01e0\u01e1\u0005"+
+		"\u001b\u0000\u0000\u01e1\u01e3\u0006\u0019\uffff\uffff\u0000\u01e2\u01da"+
+		"\u0001\u0000\u0000\u0000\u01e2\u01dc\u0001\u0000\u0000\u0000\u01e2\u01de"+
+		"\u0001\u0000\u0000\u0000\u01e2\u01e0\u0001\u0000\u0000\u0000\u01e3\u01e4"+
+		"\u0001\u0000\u0000\u0000\u01e4\u01e5\u00034\u001a\u0000\u01e5\u01e6\u0006"+
+		"\u0019\uffff\uffff\u0000\u01e6\u01e8\u0001\u0000\u0000\u0000\u01e7\u01d8"+
+		"\u0001\u0000\u0000\u0000\u01e8\u01eb\u0001\u0000\u0000\u0000\u01e9\u01e7"+
+		"\u0001\u0000\u0000\u0000\u01e9\u01ea\u0001\u0000\u0000\u0000\u01ea3\u0001"+
+		"\u0000\u0000\u0000\u01eb\u01e9\u0001\u0000\u0000\u0000\u01ec\u01ed\u0006"+
+		"\u001a\uffff\uffff\u0000\u01ed\u01ee\u00036\u001b\u0000\u01ee\u01ef\u0006"+
+		"\u001a\uffff\uffff\u0000\u01ef\u01fd\u0001\u0000\u0000\u0000\u01f0\u01f1"+
+		"\n\u0002\u0000\u0000\u01f1\u01f6\u0006\u001a\uffff\uffff\u0000\u01f2\u01f3"+
+		"\u0005\u0014\u0000\u0000\u01f3\u01f7\u0006\u001a\uffff\uffff\u0000\u01f4"+
+		"\u01f5\u0005\u0015\u0000\u0000\u01f5\u01f7\u0006\u001a\uffff\uffff\u0000"+
+		"\u01f6\u01f2\u0001\u0000\u0000\u0000\u01f6\u01f4\u0001\u0000\u0000\u0000"+
+		"\u01f7\u01f8\u0001\u0000\u0000\u0000\u01f8\u01f9\u00036\u001b\u0000\u01f9"+
+		"\u01fa\u0006\u001a\uffff\uffff\u0000\u01fa\u01fc\u0001\u0000\u0000\u0000"+
+		"\u01fb\u01f0\u0001\u0000\u0000\u0000\u01fc\u01ff\u0001\u0000\u0000\u0000"+
+		"\u01fd\u01fb\u0001\u0000\u0000\u0000\u01fd\u01fe\u0001\u0000\u0000\u0000"+
+		"\u01fe5\u0001\u0000\u0000\u0000\u01ff\u01fd\u0001\u0000\u0000\u0000\u0200"+
+		"\u0201\u0006\u001b\uffff\uffff\u0000\u0201\u0202\u00038\u001c\u0000\u0202"+
+		"\u0203\u0006\u001b\uffff\uffff\u0000\u0203\u0211\u0001\u0000\u0000\u0000"+
+		"\u0204\u0205\n\u0002\u0000\u0000\u0205\u020a\u0006\u001b\uffff\uffff\u0000"+
+		"\u0206\u0207\u0005\u0016\u0000\u0000\u0207\u020b\u0006\u001b\uffff\uffff"+
+		"\u0000\u0208\u0209\u0005\u0017\u0000\u0000\u0209\u020b\u0006\u001b\uffff"+
+		"\uffff\u0000\u020a\u0206\u0001\u0000\u0000\u0000\u020a\u0208\u0001\u0000"+
+		"\u0000\u0000\u020b\u020c\u0001\u0000\u0000\u0000\u020c\u020d\u00038\u001c"+
+		"\u0000\u020d\u020e\u0006\u001b\uffff\uffff\u0000\u020e\u0210\u0001\u0000"+
+		"\u0000\u0000\u020f\u0204\u0001\u0000\u0000\u0000\u0210\u0213\u0001\u0000"+
+		"\u0000\u0000\u0211\u020f\u0001\u0000\u0000\u0000\u0211\u0212\u0001\u0000"+
+		"\u0000\u0000\u02127\u0001\u0000\u0000\u0000\u0213\u0211\u0001\u0000\u0000"+
+		"\u0000\u0214\u021d\u0006\u001c\uffff\uffff\u0000\u0215\u0216\u0005 \u0000"+
+		"\u0000\u0216\u021e\u0006\u001c\uffff\uffff\u0000\u0217\u0218\u0005\u0015"+
+		"\u0000\u0000\u0218\u021e\u0006\u001c\uffff\uffff\u0000\u0219\u021a\u0005"+
+		"!\u0000\u0000\u021a\u021e\u0006\u001c\uffff\uffff\u0000\u021b\u021c\u0005"+
+		"\"\u0000\u0000\u021c\u021e\u0006\u001c\uffff\uffff\u0000\u021d\u0215\u0001"+
+		"\u0000\u0000\u0000\u021d\u0217\u0001\u0000\u0000\u0000\u021d\u0219\u0001"+
+		"\u0000\u0000\u0000\u021d\u021b\u0001\u0000\u0000\u0000\u021e\u021f\u0001"+
+		"\u0000\u0000\u0000\u021f\u0220\u0003:\u001d\u0000\u0220\u0221\u0006\u001c"+
+		"\uffff\uffff\u0000\u0221\u0226\u0001\u0000\u0000\u0000\u0222\u0223\u0003"+
+		":\u001d\u0000\u0223\u0224\u0006\u001c\uffff\uffff\u0000\u0224\u0226\u0001"+
+		"\u0000\u0000\u0000\u0225\u0214\u0001\u0000\u0000\u0000\u0225\u0222\u0001"+
+		"\u0000\u0000\u0000\u02269\u0001\u0000\u0000\u0000\u0227\u0228\u0006\u001d"+
+		"\uffff\uffff\u0000\u0228\u0230\u0003<\u001e\u0000\u0229\u022a\u00051\u0000"+
+		"\u0000\u022a\u022b\u0003\n\u0005\u0000\u022b\u022c\u0006\u001d\uffff\uffff"+
+		"\u0000\u022c\u022d\u00052\u0000\u0000\u022d\u022f\u0001\u0000\u0000\u0000"+
+		"\u022e\u0229\u0001\u0000\u0000\u0000\u022f\u0232\u0001\u0000\u0000\u0000"+
+		"\u0230\u022e\u0001\u0000\u0000\u0000\u0230\u0231\u0001\u0000\u0000\u0000"+
+		"\u0231\u0238\u0001\u0000\u0000\u0000\u0232\u0230\u0001\u0000\u0000\u0000"+
+		"\u0233\u0234\u0003(\u0014\u0000\u0234\u0235\u0006\u001d\uffff\uffff\u0000"+
+		"\u0235\u0237\u0001\u0000\u0000\u0000\u0236\u0233\u0001\u0000\u0000\u0000"+
+		"\u0237\u023a\u0001\u0000\u0000\u0000\u0238\u0236\u0001\u0000\u0000\u0000"+
+		"\u0238\u0239\u0001\u0000\u0000\u0000\u0239\u023b\u0001\u0000\u0000\u0000"+
+		"\u023a\u0238\u0001\u0000\u0000\u0000\u023b\u023c\u0006\u001d\uffff\uffff"+
+		"\u0000\u023c;\u0001\u0000\u0000\u0000\u023d\u023e\u0003@ \u0000\u023e"+
+		"\u023f\u0006\u001e\uffff\uffff\u0000\u023f\u0259\u0001\u0000\u0000\u0000"+
+		"\u0240\u0241\u0005>\u0000\u0000\u0241\u0259\u0006\u001e\uffff\uffff\u0000"+
+		"\u0242\u0243\u0003>\u001f\u0000\u0243\u0244\u0006\u001e\uffff\uffff\u0000"+
+		"\u0244\u0259\u0001\u0000\u0000\u0000\u0245\u0246\u0003\"\u0011\u0000\u0246"+
+		"\u0247\u0006\u001e\uffff\uffff\u0000\u0247\u0259\u0001\u0000\u0000\u0000"+
+		"\u0248\u0249\u0003$\u0012\u0000\u0249\u024a\u0006\u001e\uffff\uffff\u0000"+
+		"\u024a\u0259\u0001\u0000\u0000\u0000\u024b\u024c\u0003 \u0010\u0000\u024c"+
+		"\u024d\u0006\u001e\uffff\uffff\u0000\u024d\u0259\u0001\u0000\u0000\u0000"+
+		"\u024e\u024f\u0003\u0014\n\u0000\u024f\u0250\u0006\u001e\uffff\uffff\u0000"+
+		"\u0250\u0259\u0001\u0000\u0000\u0000\u0251\u0255\u00051\u0000\u0000\u0252"+
+		"\u0253\u0003.\u0017\u0000\u0253\u0254\u0006\u001e\uffff\uffff\u0000\u0254"+
+		"\u0256\u0001\u0000\u0000\u0000\u0255\u0252\u0001\u0000\u0000\u0000\u0255"+
+		"\u0256\u0001\u0000\u0000\u0000\u0256\u0257\u0001\u0000\u0000\u0000\u0257"+
+		"\u0259\u00052\u0000\u0000\u0258\u023d\u0001\u0000\u0000\u0000\u0258\u0240"+
+		"\u0001\u0000\u0000\u0000\u0258\u0242\u0001\u0000\u0000\u0000\u0258\u0245"+
+		"\u0001\u0000\u0000\u0000\u0258\u0248\u0001\u0000\u0000\u0000\u0258\u024b"+
+		"\u0001\u0000\u0000\u0000\u0258\u024e\u0001\u0000\u0000\u0000\u0258\u0251"+
+		"\u0001\u0000\u0000\u0000\u0259=\u0001\u0000\u0000\u0000\u025a\u025b\u0005"+
+		"*\u0000\u0000\u025b\u025c\u0003\u0004\u0002\u0000\u025c\u025d\u00055\u0000"+
+		"\u0000\u025d\u025e\u0003,\u0016\u0000\u025e\u025f\u00056\u0000\u0000\u025f"+
+		"\u0260\u0006\u001f\uffff\uffff\u0000\u0260?\u0001\u0000\u0000\u0000\u0261"+
+		"\u0262\u0003D\"\u0000\u0262\u0263\u0006 \uffff\uffff\u0000\u0263\u0271"+
+		"\u0001\u0000\u0000\u0000\u0264\u0265\u0005?\u0000\u0000\u0265\u0271\u0006"+
+		" \uffff\uffff\u0000\u0266\u0267\u0005<\u0000\u0000\u0267\u0271\u0006 "+
+		"\uffff\uffff\u0000\u0268\u0269\u0005=\u0000\u0000\u0269\u0271\u0006 \uffff"+
+		"\uffff\u0000\u026a\u026b\u0003B!\u0000\u026b\u026c\u0006 \uffff\uffff"+
+		"\u0000\u026c\u0271\u0001\u0000\u0000\u0000\u026d\u026e\u0003F#\u0000\u026e"+
+		"\u026f\u0006 \uffff\uffff\u0000\u026f\u0271\u0001\u0000\u0000\u0000\u0270"+
+		"\u0261\u0001\u0000\u0000\u0000\u0270\u0264\u0001\u0000\u0000\u0000\u0270"+
+		"\u0266\u0001\u0000\u0000\u0000\u0270\u0268\u0001\u0000\u0000\u0000\u0270"+
+		"\u026a\u0001\u0000\u0000\u0000\u0270\u026d\u0001\u0000\u0000\u0000\u0271"+
+		"A\u0001\u0000\u0000\u0000\u0272\u0273\u00053\u0000\u0000\u0273\u0274\u0003"+
+		"\n\u0005\u0000\u0274\u0275\u00054\u0000\u0000\u0275\u0276\u0006!\uffff"+
+		"\uffff\u0000\u0276C\u0001\u0000\u0000\u0000\u0277\u0278\u0005&\u0000\u0000"+
+		"\u0278\u027c\u0006\"\uffff\uffff\u0000\u0279\u027a\u0005\'\u0000\u0000"+
+		"\u027a\u027c\u0006\"\uffff\uffff\u0000\u027b\u0277\u0001\u0000\u0000\u0000"+
+		"\u027b\u0279\u0001\u0000\u0000\u0000\u027cE\u0001\u0000\u0000\u0000\u027d"+
+		"\u027e\u0005\u000b\u0000\u0000\u027e\u027f\u00051\u0000\u0000\u027f\u0280"+
+		"\u0005:\u0000\u0000\u0280\u0281\u0005>\u0000\u0000\u0281\u0282\u00052"+
+		"\u0000\u0000\u0282\u0283\u0006#\uffff\uffff\u0000\u0283G\u0001\u0000\u0000"+
+		"\u0000.OQk~\u0083\u0085\u009a\u00b2\u00b5\u00bc\u00cc\u00d4\u00e0\u00e7"+
+		"\u00ec\u00f0\u00f5\u0120\u012a\u012e\u0130\u0136\u0152\u0159\u0176\u0184"+
+		"\u01a6\u01ae\u01b4\u01c1\u01ca\u01d2\u01e2\u01e9\u01f6\u01fd\u020a\u0211"+
+		"\u021d\u0225\u0230\u0238\u0255\u0258\u0270\u027b";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
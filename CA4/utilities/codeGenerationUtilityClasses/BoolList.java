@@ -0,0 +1,56 @@
+import java.util.Arrays;
+
+// List of bools stored unboxed in a growable boolean[], used for lists whose element type
+// is bool. Copies share the array until one of them is mutated, as in List.
+public class BoolList {
+    public boolean[] elements;
+    public int size;
+    private int[] owners;
+
+    public BoolList(int capacity) {
+        this.elements = new boolean[Math.max(capacity, 4)];
+        this.owners = new int[]{1};
+    }
+
+    public BoolList(BoolList that) {
+        this.elements = that.elements;
+        this.size = that.size;
+        this.owners = that.owners;
+        this.owners[0]++;
+    }
+
+    private void detach() {
+        if (this.owners[0] == 1)
+            return;
+        this.owners[0]--;
+        this.elements = Arrays.copyOf(this.elements, Math.max(this.size, 4));
+        this.owners = new int[]{1};
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.size);
+    }
+
+    public boolean getElement(int index) {
+        checkIndex(index);
+        return this.elements[index];
+    }
+
+    public void setElement(int index, boolean value) {
+        checkIndex(index);
+        detach();
+        this.elements[index] = value;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    public void addElement(boolean value) {
+        detach();
+        if (this.size == this.elements.length)
+            this.elements = Arrays.copyOf(this.elements, this.size * 2);
+        this.elements[this.size++] = value;
+    }
+}
@@ -1,36 +1,91 @@
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Fptr {
-    Object instance;
+    // Kept per owning class, so a generated class and its loader can still be unloaded.
+    private static final ClassValue<ConcurrentHashMap<String, MethodHandle>> handles =
+            new ClassValue<ConcurrentHashMap<String, MethodHandle>>() {
+                @Override
+                protected ConcurrentHashMap<String, MethodHandle> computeValue(Class<?> owner) {
+                    return new ConcurrentHashMap<String, MethodHandle>();
+                }
+            };
+    private static final ClassValue<ConcurrentHashMap<String, Fptr>> shared =
+            new ClassValue<ConcurrentHashMap<String, Fptr>>() {
+                @Override
+                protected ConcurrentHashMap<String, Fptr> computeValue(Class<?> owner) {
+                    return new ConcurrentHashMap<String, Fptr>();
+                }
+            };
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    Class<?> owner;
     String methodName;
+    Object[] bound;
+    MethodHandle handle;
+
+    public Fptr(Class<?> owner, String methodName) {
+        this(owner, methodName, NO_ARGUMENTS);
+    }
 
-    public Fptr(Object instance, String methodName) {
-        this.instance = instance;
+    // `bound` is passed ahead of the arguments of every call; a lambda binds the
+    // values of the variables it captures this way.
+    public Fptr(Class<?> owner, String methodName, Object[] bound) {
+        this.owner = owner;
         this.methodName = methodName;
+        this.bound = bound;
+    }
+
+    // A pointer with nothing bound never changes, so one instance per target is
+    // shared by every function pointer and non-capturing lambda naming it.
+    public static Fptr of(final Class<?> owner, String methodName) {
+        return shared.get(owner).computeIfAbsent(methodName, name -> new Fptr(owner, name));
     }
 
-    public Object invoke(ArrayList<Object> arguments) {
-        int argumentsSize = arguments.size();
-        Class[] argsClasses = new Class[argumentsSize];
-        Object[] argsArray = new Object[argumentsSize];
-        for(int i = 0; i < argumentsSize; i++) {
-            argsClasses[i] = arguments.get(i).getClass();
-            argsArray[i] = arguments.get(i);
+    // Each (class, name) target is looked up once and adapted to (Object[])Object,
+    // so every later Fptr for it only spreads its arguments into the cached handle.
+    private static MethodHandle resolve(final Class<?> owner, String methodName) {
+        return handles.get(owner).computeIfAbsent(methodName, name -> lookup(owner, name));
+    }
+
+    // Functions are static methods the class declares itself, so inherited methods
+    // such as wait or equals never stand in for a function of the same name.
+    private static MethodHandle lookup(Class<?> owner, String methodName) {
+        for (Method candidate : owner.getDeclaredMethods()) {
+            if (!candidate.getName().equals(methodName) || !Modifier.isStatic(candidate.getModifiers()))
+                continue;
+            int argumentsSize = candidate.getParameterCount();
+            try {
+                return MethodHandles.publicLookup().unreflect(candidate)
+                        .asType(MethodType.genericMethodType(argumentsSize))
+                        .asSpreader(Object[].class, argumentsSize);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("function " + methodName + " is not accessible", e);
+            }
         }
-        Method objectMethod = null;
-        try {
-            objectMethod = this.instance.getClass().getMethod(this.methodName, argsClasses);
-        } catch (NoSuchMethodException e) { 
-            e.printStackTrace();
+        throw new IllegalStateException("no function named " + methodName);
+    }
+
+    public Object invoke(Object[] arguments) {
+        if (this.handle == null)
+            this.handle = resolve(owner, methodName);
+        if (bound.length > 0) {
+            Object[] allArguments = new Object[bound.length + arguments.length];
+            System.arraycopy(bound, 0, allArguments, 0, bound.length);
+            System.arraycopy(arguments, 0, allArguments, bound.length, arguments.length);
+            arguments = allArguments;
         }
         try {
-            return objectMethod.invoke(this.instance, argsArray);
-        } catch (IllegalAccessException | InvocationTargetException e) { 
-            e.printStackTrace();
-            System.exit(1);
+            return (Object) this.handle.invokeExact(arguments);
+        } catch (RuntimeException | Error e) {
+            // what the function itself threw, passed on unchanged
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
         }
-        return null;
     }
-}
\ No newline at end of file
+}
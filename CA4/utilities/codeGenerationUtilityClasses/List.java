@@ -1,31 +1,69 @@
 import java.util.ArrayList;
 
+// Lists have value semantics. A copy shares the elements of its source, and `owners`
+// counts the lists sharing them; a list copies the elements before its first
+// mutation while they are shared, so copying is constant time until one side writes.
 public class List {
     public ArrayList<Object> elements;
+    private int[] owners;
 
     public List(ArrayList<Object> newElements) {
-        this.elements = new ArrayList<>();
+        this.elements = new ArrayList<>(newElements.size());
         for(Object newElement : newElements)
             this.elements.add(getNewObject(newElement));
+        this.owners = new int[]{1};
     }
 
     public List(List that) {
-        this(that.elements);
+        this.elements = that.elements;
+        this.owners = that.owners;
+        this.owners[0]++;
     }
 
     private Object getNewObject(Object o) {
         if(o instanceof List)
             return new List((List) o);
+        else if(o instanceof IntList)
+            return new IntList((IntList) o);
+        else if(o instanceof BoolList)
+            return new BoolList((BoolList) o);
         else
             return o;
     }
 
+    private void detach() {
+        if(this.owners[0] == 1)
+            return;
+        this.owners[0]--;
+        ArrayList<Object> shared = this.elements;
+        this.elements = new ArrayList<>(shared.size());
+        for(Object element : shared)
+            this.elements.add(getNewObject(element));
+        this.owners = new int[]{1};
+    }
+
     public Object getElement(int index) {
-        return this.elements.get(index);
+        Object element = this.elements.get(index);
+        // A nested list handed out may be changed in place, so it must not be shared.
+        if(this.owners[0] > 1 && (element instanceof List || element instanceof IntList || element instanceof BoolList)) {
+            detach();
+            element = this.elements.get(index);
+        }
+        return element;
     }
 
     public void setElement(int index, Object o) {
+        detach();
         this.elements.set(index, getNewObject(o));
     }
 
+    public int getSize() {
+        return this.elements.size();
+    }
+
+    public void addElement(Object o) {
+        detach();
+        this.elements.add(getNewObject(o));
+    }
+
 }
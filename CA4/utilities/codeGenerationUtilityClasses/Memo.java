@@ -0,0 +1,30 @@
+// Bounded cache of int results keyed by a long, used by memoized functions and patterns.
+// It is direct-mapped: every key has one slot and a newer key takes the slot over,
+// so the cache never grows past its fixed size and never boxes keys or values.
+public class Memo {
+    private static final int BITS = 12;
+
+    private final long[] keys = new long[1 << BITS];
+    private final int[] values = new int[1 << BITS];
+    private final boolean[] filled = new boolean[1 << BITS];
+
+    private int slot(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - BITS));
+    }
+
+    public boolean contains(long key) {
+        int slot = slot(key);
+        return this.filled[slot] && this.keys[slot] == key;
+    }
+
+    public int get(long key) {
+        return this.values[slot(key)];
+    }
+
+    public void put(long key, int value) {
+        int slot = slot(key);
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.filled[slot] = true;
+    }
+}